@@ -0,0 +1,39 @@
+package com.example.a50zo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suites with the GC profiler attached, so every result
+ * includes the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation).
+ * Usage: {@code BenchmarkRunner [regex]}; the default runs every suite.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Private constructor, this class only holds the entry point.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Command line entry point.
+     *
+     * @param args Optional regular expression selecting the benchmarks to run
+     * @throws RunnerException if JMH fails to run
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Card value resolution and play validation.
+ * Each operation evaluates one card against one table sum, cycling through
+ * a fixed pseudo-random sequence so the branch predictor cannot learn it.
+ * The {@code branchy} variants keep the original per-call Ace resolution
+ * as a baseline for the lookup tables of {@link RuleSet#standard()}.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+    private static final int SAMPLES = 1 << 10;
+
+    private final RuleSet rules = RuleSet.standard();
+    private Card[] cards;
+    private int[] sums;
+    private int index;
+
+    /**
+     * Builds the sequence of cards and table sums to evaluate.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        cards = new Card[SAMPLES];
+        sums = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            cards[i] = Card.of(random.nextInt(Card.COUNT));
+            sums[i] = random.nextInt(-10, 51);
+        }
+    }
+
+    /**
+     * Resolves the best value of a card for a table sum.
+     *
+     * @return The best value
+     */
+    @Benchmark
+    public int getBestValue() {
+        int i = index++ & (SAMPLES - 1);
+        return rules.getBestValue(cards[i], sums[i]);
+    }
+
+    /**
+     * Checks whether a card can be played on a table sum.
+     *
+     * @return true if the card can be played
+     */
+    @Benchmark
+    public boolean canBePlayed() {
+        int i = index++ & (SAMPLES - 1);
+        return rules.canBePlayed(cards[i], sums[i]);
+    }
+
+    /**
+     * Resolves the best value with the original branching code.
+     *
+     * @return The best value
+     */
+    @Benchmark
+    public int getBestValueBranchy() {
+        int i = index++ & (SAMPLES - 1);
+        return branchyBestValue(cards[i].getRank(), sums[i]);
+    }
+
+    /**
+     * Checks playability with the original branching code.
+     *
+     * @return true if the card can be played
+     */
+    @Benchmark
+    public boolean canBePlayedBranchy() {
+        int i = index++ & (SAMPLES - 1);
+        return sums[i] + branchyBestValue(cards[i].getRank(), sums[i]) <= 50;
+    }
+
+    /**
+     * Original implementation of Card.getBestValue.
+     *
+     * @param rank       The card rank
+     * @param currentSum The current sum on the table
+     * @return The best value
+     */
+    private static int branchyBestValue(Rank rank, int currentSum) {
+        if (rank.hasMultipleValues()) {
+            if (currentSum + rank.getSecondaryValue() <= 50) {
+                return rank.getSecondaryValue();
+            } else {
+                return rank.getPrimaryValue();
+            }
+        }
+        return rank.getPrimaryValue();
+    }
+}
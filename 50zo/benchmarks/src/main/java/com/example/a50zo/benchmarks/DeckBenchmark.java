@@ -0,0 +1,105 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Deck draw, shuffle and replenish paths, for shoes of
+ * one to 32 decks. Drawing and replenishing a fixed 40-card table pile
+ * should cost the same whatever the shoe size; shuffling the full shoe is
+ * linear in its size.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    @Param({"1", "8", "32"})
+    private int decks;
+
+    private Deck deck;
+    private Deck emptyDeck;
+    private List<Card> tablePile;
+
+    /**
+     * Creates a full shoe, an empty shoe and a 40-card table pile.
+     *
+     * @throws EmptyDeckException never, the shoe is drained exactly
+     */
+    @Setup
+    public void setUp() throws EmptyDeckException {
+        deck = new Deck(decks, new SplittableRandom(42));
+        emptyDeck = new Deck(decks, new SplittableRandom(43));
+        tablePile = new ArrayList<>();
+        for (int i = 0; i < decks * Card.COUNT; i++) {
+            Card card = emptyDeck.drawCard();
+            if (i < 40) {
+                tablePile.add(card);
+            }
+        }
+    }
+
+    /**
+     * Draws the top card and returns it to the bottom, keeping the deck size stable.
+     *
+     * @return The drawn card
+     * @throws EmptyDeckException never, the deck is always refilled
+     */
+    @Benchmark
+    public Card drawCard() throws EmptyDeckException {
+        Card card = deck.drawCard();
+        deck.addCard(card);
+        return card;
+    }
+
+    /**
+     * Shuffles the full shoe.
+     *
+     * @return The shuffled deck
+     */
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Replenishes an empty deck from a 40-card table pile, then drains it again.
+     *
+     * @return Number of cards that went through the deck
+     * @throws EmptyDeckException never, the drain stops when the deck is empty
+     */
+    @Benchmark
+    public int replenishFromTable() throws EmptyDeckException {
+        emptyDeck.replenishFromTable(tablePile);
+        int drawn = 0;
+        while (!emptyDeck.isEmpty()) {
+            emptyDeck.drawCard();
+            drawn++;
+        }
+        return drawn;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.ai.ExpectimaxMachinePlayer;
+import com.example.a50zo.ai.TranspositionTable;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the expectimax player's search speed against its depth.
+ * Each invocation is one decision from the same position with an empty
+ * transposition table; the {@code nodes} counter reports positions expanded
+ * per second and {@code hits} the table hits per second.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectimaxBenchmark {
+
+    /** Number of turns searched. */
+    @Param({"1", "2", "3", "4", "5"})
+    public int depth;
+
+    /** Number of players at the table. */
+    @Param({"2", "4"})
+    public int players;
+
+    private TranspositionTable table;
+    private ExpectimaxMachinePlayer player;
+    private GameModel model;
+
+    /**
+     * Search counters, summed over the invocations of an iteration.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        /** Positions expanded. */
+        public long nodes;
+        /** Transposition table hits. */
+        public long hits;
+    }
+
+    /**
+     * Deals the first seeded game where the searcher has a real choice.
+     *
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    @Setup
+    public void setUp() throws EmptyDeckException {
+        table = new TranspositionTable(ExpectimaxMachinePlayer.DEFAULT_TABLE_BITS);
+        player = new ExpectimaxMachinePlayer("Expectimax", depth, table);
+        for (long seed = 1; ; seed++) {
+            player.removeAllCards();
+            List<Player> seats = new ArrayList<>();
+            seats.add(player);
+            for (int i = 1; i < players; i++) {
+                seats.add(new MachinePlayer("Machine " + i));
+            }
+            model = new GameModel(seats, new SplittableRandom(seed));
+            model.setLoggingEnabled(false);
+            model.initializeGame();
+            if (Long.bitCount(player.getPlayableMask(model.getTableSum())) >= 2) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Empties the table so that every decision searches from scratch.
+     */
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    /**
+     * Searches one decision.
+     *
+     * @param counters Receives the nodes and table hits of the search
+     * @return The chosen card
+     */
+    @Benchmark
+    public Card decide(Counters counters) {
+        Card card = player.chooseCard(model.getTableSum());
+        counters.nodes += player.getLastReport().getIterations();
+        counters.hits += table.getHits();
+        return card;
+    }
+}
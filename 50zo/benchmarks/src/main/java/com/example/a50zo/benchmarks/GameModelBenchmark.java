@@ -0,0 +1,62 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.GameResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a complete machine-only game: deal, play every turn,
+ * eliminate players and stop at the winner.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameModelBenchmark {
+
+    /** Number of machine players at the table. */
+    @Param({"2", "4"})
+    public int players;
+
+    private GameEngine engine;
+    private SplittableRandom seeds;
+
+    /**
+     * Creates the engine and the seed source for the games.
+     */
+    @Setup
+    public void setUp() {
+        engine = new GameEngine();
+        seeds = new SplittableRandom(42);
+    }
+
+    /**
+     * Plays one full game.
+     *
+     * @return The game result
+     * @throws EmptyDeckException if the deck cannot be replenished
+     */
+    @Benchmark
+    public GameResult fullGame() throws EmptyDeckException {
+        return engine.playMachineGame(players, seeds.split());
+    }
+}
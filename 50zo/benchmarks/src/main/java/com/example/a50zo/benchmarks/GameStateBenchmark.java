@@ -0,0 +1,91 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the GameState search primitives, reported in nodes per second:
+ * a node is one move applied and later undone, or one state copied.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+    private static final int PLIES = 64;
+
+    /** Number of players at the table. */
+    @Param({"2", "4"})
+    public int players;
+
+    private GameState root;
+    private GameState work;
+    private final int[] moves = new int[PLIES];
+
+    /**
+     * Deals a seeded game and captures it.
+     *
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    @Setup
+    public void setUp() throws EmptyDeckException {
+        GameModel model = new GameModel(players - 1, 42L);
+        model.setLoggingEnabled(false);
+        model.initializeGame();
+        root = model.snapshot();
+        work = root.copy();
+    }
+
+    /**
+     * Plays up to 64 moves, always the highest legal card, then undoes them all.
+     *
+     * @return The table sum at the deepest point
+     */
+    @Benchmark
+    @OperationsPerInvocation(PLIES)
+    public int applyUndo() {
+        int played = 0;
+        while (played < PLIES && !work.isGameOver()) {
+            long legal = work.legalMoves();
+            int move = legal == 0L ? GameState.ELIMINATE : 63 - Long.numberOfLeadingZeros(legal);
+            work.apply(move);
+            moves[played++] = move;
+        }
+        int deepestSum = work.getTableSum();
+        while (played > 0) {
+            work.undo(moves[--played]);
+        }
+        return deepestSum;
+    }
+
+    /**
+     * Copies the root state into a reused state.
+     *
+     * @return The copied state
+     */
+    @Benchmark
+    public GameState copy() {
+        work.copyFrom(root);
+        return work;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.a50zo.benchmarks;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.exceptions.InvalidCardPlayException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.Deck;
+import com.example.a50zo.model.MachinePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-turn player decisions: the legality check used
+ * before every turn and the machine player's card choice.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+
+    /** Table sum the hand is evaluated against. */
+    @Param({"20", "45", "50"})
+    public int tableSum;
+
+    private MachinePlayer player;
+
+    /**
+     * Deals a 4-card hand from a seeded deck.
+     *
+     * @throws EmptyDeckException never, a fresh deck has 52 cards
+     */
+    @Setup
+    public void setUp() throws EmptyDeckException {
+        Deck deck = new Deck(new SplittableRandom(42));
+        player = new MachinePlayer("Bench");
+        for (int i = 0; i < 4; i++) {
+            player.addCardToHand(deck.drawCard());
+        }
+    }
+
+    /**
+     * Checks whether the hand has a legal move.
+     *
+     * @return true if a card can be played
+     */
+    @Benchmark
+    public boolean hasValidMove() {
+        return player.hasValidMove(tableSum);
+    }
+
+    /**
+     * Picks the machine player's card and puts it back in the hand.
+     *
+     * @return The selected card, or null when the hand has no legal move
+     */
+    @Benchmark
+    public Card selectCard() {
+        try {
+            Card card = player.selectCard(tableSum);
+            player.addCardToHand(card);
+            return card;
+        } catch (InvalidCardPlayException e) {
+            return null;
+        }
+    }
+}
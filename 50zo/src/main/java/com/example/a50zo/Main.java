@@ -1,5 +1,7 @@
 package com.example.a50zo;
 
+import com.example.a50zo.utils.CardImageLoader;
+import com.example.a50zo.utils.GameLogger;
 import com.example.a50zo.view.WelcomeStage;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -17,13 +19,15 @@ public class Main extends Application {
 
     /**
      * The main entry point for the JavaFX application.
-     * Creates and displays the welcome stage.
+     * Starts decoding the card images in the background, then creates and
+     * displays the welcome stage.
      *
      * @param primaryStage The primary stage provided by JavaFX
      * @throws IOException if the welcome stage cannot be loaded
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
+        CardImageLoader.getInstance().preloadAsync();
         WelcomeStage welcomeStage = WelcomeStage.getInstance();
         welcomeStage.show();
     }
@@ -39,10 +43,11 @@ public class Main extends Application {
 
     /**
      * Called when the application is stopped.
-     * Performs cleanup operations.
+     * Performs cleanup operations and prints any queued log records.
      */
     @Override
     public void stop() {
         System.out.println("Cincuentazo application closing...");
+        GameLogger.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.CardTracker;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.RuleSet;
+
+/**
+ * Machine player that counts cards to corner the next player.
+ * Among its playable cards it picks the one that leaves the sum where the
+ * next player is most likely to hold nothing playable, judged from the
+ * unseen cards its {@link CardTracker} has counted so far. Ties go to the
+ * greedy choice, the sum closest to 50. The tracker is updated by the game's
+ * events, so a decision costs a few operations per rank and never looks at
+ * the table pile or the deck.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class CardCountingMachinePlayer extends MachinePlayer {
+    private static final double TIE = 1e-9;
+
+    /**
+     * Constructor for CardCountingMachinePlayer.
+     *
+     * @param name The player's name
+     */
+    public CardCountingMachinePlayer(String name) {
+        super(name, true);
+    }
+
+    /**
+     * Chooses the card most likely to leave the next player stuck.
+     * Plays greedily until the player is seated at a game.
+     *
+     * @param currentSum The current sum on the table
+     * @return The chosen card, or null if no valid card can be played
+     */
+    @Override
+    public Card chooseCard(int currentSum) {
+        CardTracker tracker = getCardTracker();
+        long legal = getPlayableMask(currentSum);
+        if (tracker == null || Long.bitCount(legal) <= 1) {
+            return super.chooseCard(currentSum);
+        }
+
+        RuleSet rules = getRules();
+        Card bestCard = null;
+        double bestStuck = -1.0;
+        int bestSum = Integer.MIN_VALUE;
+
+        for (; legal != 0L; legal &= legal - 1) {
+            Card card = Card.of(Long.numberOfTrailingZeros(legal));
+            int newSum = currentSum + rules.getBestValue(card, currentSum);
+            double stuck = tracker.getStuckProbability(newSum, rules.getHandSize());
+            if (stuck > bestStuck + TIE || (stuck > bestStuck - TIE && newSum > bestSum)) {
+                bestCard = card;
+                bestStuck = stuck;
+                bestSum = newSum;
+            }
+        }
+        return bestCard;
+    }
+}
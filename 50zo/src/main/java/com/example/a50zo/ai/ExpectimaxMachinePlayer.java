@@ -0,0 +1,120 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.utils.GameLogger;
+
+/**
+ * Deterministic machine player that looks several turns ahead with expectimax.
+ * Instead of only keeping the sum close to 50 this turn, it averages over the
+ * cards it may draw and the cards the opponents may play, all taken from the
+ * cards it has not seen, and picks the card with the best expected outcome.
+ * Searched positions are cached in a {@link TranspositionTable}, which can
+ * be shared by several players and kept across turns and games, even games
+ * with other rules or another number of players.
+ * <p>
+ * Games the compact {@link GameState} cannot hold (several decks, more than
+ * 64 players) are played with the greedy {@link MachinePlayer} strategy.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class ExpectimaxMachinePlayer extends MachinePlayer {
+    /** Default number of turns to look ahead. */
+    public static final int DEFAULT_DEPTH = 4;
+    /** Default size of a player's own table: 2^16 entries, 1 MB. */
+    public static final int DEFAULT_TABLE_BITS = 16;
+
+    private static final GameLogger LOG = GameLogger.getLogger("AI");
+
+    private final int depth;
+    private final TranspositionTable table;
+    private SearchReport lastReport;
+
+    /**
+     * Constructor for ExpectimaxMachinePlayer with the default depth and its own table.
+     *
+     * @param name The player's name
+     */
+    public ExpectimaxMachinePlayer(String name) {
+        this(name, DEFAULT_DEPTH, new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * Constructor for ExpectimaxMachinePlayer.
+     *
+     * @param name  The player's name
+     * @param depth Number of turns to look ahead, 1 to 255
+     * @param table Cache of searched positions
+     */
+    public ExpectimaxMachinePlayer(String name, int depth, TranspositionTable table) {
+        super(name);
+        if (depth < 1 || depth > 255) {
+            throw new IllegalArgumentException("depth must be between 1 and 255: " + depth);
+        }
+        this.depth = depth;
+        this.table = table;
+    }
+
+    /**
+     * Chooses the card with the best expected outcome.
+     * Falls back to the greedy strategy when the player is not seated at a
+     * game the search can represent.
+     *
+     * @param currentSum The current sum on the table
+     * @return The chosen card, or null if no valid card can be played
+     */
+    @Override
+    public Card chooseCard(int currentSum) {
+        long legal = getPlayableMask(currentSum);
+        if (Long.bitCount(legal) <= 1) {
+            return legal == 0L ? null : Card.of(Long.numberOfTrailingZeros(legal));
+        }
+        GameModel game = getTable();
+        if (game == null || getRules().getDeckCount() != 1
+                || game.getPlayers().size() > GameState.MAX_PLAYERS
+                || game.getCurrentPlayer() != this || game.getTableSum() != currentSum) {
+            return super.chooseCard(currentSum);
+        }
+
+        ExpectimaxSearch search = new ExpectimaxSearch(getRules(), table, getSeat());
+        long start = System.nanoTime();
+        table.newSearch();
+        double value = search.search(game.snapshot(), depth);
+        Card card = Card.of(search.getBestCard());
+        lastReport = new SearchReport(card, search.getNodes(), System.nanoTime() - start, 1, value);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} chose {}; table: {}", name, lastReport, table.toString());
+        }
+        return card;
+    }
+
+    /**
+     * Gets the report of the last search; its iterations are the positions expanded.
+     *
+     * @return The last report, or null if this player has not searched yet
+     */
+    public SearchReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Gets the cache of searched positions, for its hit-rate statistics.
+     *
+     * @return The transposition table
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of turns the player looks ahead.
+     *
+     * @return The search depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameRandom;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Depth-limited expectimax from one player's point of view.
+ * The searcher knows its hand, the table sum, the cards on the table and
+ * who is still in; every other card is unseen. On its turn it picks the
+ * card with the best expected value and then draws an unseen card. An
+ * opponent's turn is a chance node: the opponent holds a random set of
+ * unseen cards, is eliminated with the probability that none of them is
+ * playable, and otherwise plays a playable unseen card chosen at random.
+ * Draws and plays branch per rank, weighted by how many unseen cards have
+ * that rank, since cards of the same rank change the sum in the same way.
+ * Depth counts turns; at depth 0 a position is scored by how much of the
+ * searcher's hand is playable, split among the players left.
+ * <p>
+ * Values are cached in a {@link TranspositionTable} under a Zobrist hash of
+ * the searcher's hand, the table sum, the cards seen on the table, the top
+ * card, the players left, whose turn it is and who is searching, updated by
+ * XOR as cards move. The top card matters because it stays on the table
+ * when the rest goes back into the deck. The root key also mixes in a key
+ * of the game's shape (the rules and the number of players), so one table
+ * can be shared by games with different rules or table sizes without mixing
+ * their values.
+ * A search is used by one thread at a time; the table may be shared.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+final class ExpectimaxSearch {
+    private static final int SUM_KEYS = 512;
+    private static final long[] HAND_KEYS = new long[Card.COUNT];
+    private static final long[] SEEN_KEYS = new long[Card.COUNT];
+    private static final long[] TOP_KEYS = new long[Card.COUNT];
+    private static final long[] SUM_KEY = new long[SUM_KEYS];
+    private static final long[] OUT_KEYS = new long[GameState.MAX_PLAYERS];
+    private static final long[] TURN_KEYS = new long[GameState.MAX_PLAYERS];
+    private static final long[] SEARCHER_KEYS = new long[GameState.MAX_PLAYERS];
+    private static final long[] RANK_MASKS = new long[Rank.values().length];
+    private static final long GAME_SALT;
+
+    static {
+        // Semilla fija: las mismas claves en cada ejecución
+        RandomGenerator random = GameRandom.create(0x50E0L);
+        for (int id = 0; id < Card.COUNT; id++) {
+            HAND_KEYS[id] = random.nextLong();
+            SEEN_KEYS[id] = random.nextLong();
+            TOP_KEYS[id] = random.nextLong();
+            RANK_MASKS[Card.of(id).getRank().ordinal()] |= 1L << id;
+        }
+        for (int i = 0; i < SUM_KEYS; i++) {
+            SUM_KEY[i] = random.nextLong();
+        }
+        for (int seat = 0; seat < GameState.MAX_PLAYERS; seat++) {
+            OUT_KEYS[seat] = random.nextLong();
+            TURN_KEYS[seat] = random.nextLong();
+            SEARCHER_KEYS[seat] = random.nextLong();
+        }
+        GAME_SALT = random.nextLong();
+    }
+
+    private final RuleSet rules;
+    private final TranspositionTable table;
+    private final int perspective;
+    private final int handSize;
+    private final long rulesKey;
+    private long nodes;
+    private int bestCard;
+
+    /**
+     * Constructor for ExpectimaxSearch.
+     *
+     * @param rules       The rules of the game
+     * @param table       Cache of searched positions
+     * @param perspective The seat of the searching player
+     */
+    ExpectimaxSearch(RuleSet rules, TranspositionTable table, int perspective) {
+        this.rules = rules;
+        this.table = table;
+        this.perspective = perspective;
+        this.handSize = rules.getHandSize();
+        this.rulesKey = rulesKey(rules);
+    }
+
+    /**
+     * Searches the searcher's turn in a state.
+     * The state must be the searcher's turn; other players' hands and the deck order are ignored.
+     *
+     * @param state The state
+     * @param depth Number of turns to look ahead, at least 1
+     * @return The expected value of the best card; the card is in {@link #getBestCard()}
+     */
+    double search(GameState state, int depth) {
+        return search(state.getHand(perspective), state.getTableSum(), state.getTableMask(),
+                state.getTopCard(), state.getAliveMask(), state.getPlayerCount(), depth);
+    }
+
+    /**
+     * Searches the searcher's turn in a position given by what the searcher sees.
+     *
+     * @param hand        The searcher's hand
+     * @param sum         The table sum
+     * @param seen        Cards on the table
+     * @param top         The top card of the table, or -1 if none
+     * @param alive       Players still in
+     * @param playerCount Number of seats
+     * @param depth       Number of turns to look ahead, at least 1
+     * @return The expected value of the best card; the card is in {@link #getBestCard()}
+     */
+    double search(long hand, int sum, long seen, int top, long alive, int playerCount, int depth) {
+        nodes = 0;
+        bestCard = -1;
+
+        // La clave incluye al buscador y la forma del juego: quien comparte tabla no mezcla valores
+        long key = mix(rulesKey ^ playerCount)
+                ^ SEARCHER_KEYS[perspective] ^ TURN_KEYS[perspective] ^ sumKey(sum) ^ seenKey(seen) ^ topKey(top);
+        for (long cards = hand; cards != 0L; cards &= cards - 1) {
+            key ^= HAND_KEYS[Long.numberOfTrailingZeros(cards)];
+        }
+        for (long out = ~alive & allSeats(playerCount); out != 0L; out &= out - 1) {
+            key ^= OUT_KEYS[Long.numberOfTrailingZeros(out)];
+        }
+        nodes++;
+        return searcherTurn(hand, sum, seen, top, alive, depth, key, true);
+    }
+
+    /**
+     * Scores a position reached by the search.
+     *
+     * @param seat  The seat to move
+     * @param hand  The searcher's hand
+     * @param sum   The table sum
+     * @param seen  Cards on the table
+     * @param top   The top card of the table
+     * @param alive Players still in
+     * @param depth Turns left to search
+     * @param key   Zobrist hash of the position
+     * @return Expected value for the searcher, in [0, 1]
+     */
+    private double value(int seat, long hand, int sum, long seen, int top, long alive, int depth, long key) {
+        if (alive == 1L << perspective) {
+            return 1.0;
+        }
+        if (depth == 0) {
+            return evaluate(hand, sum, alive);
+        }
+        double cached = table.probe(key, depth);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        nodes++;
+        double result = seat == perspective
+                ? searcherTurn(hand, sum, seen, top, alive, depth, key, false)
+                : opponentTurn(seat, hand, sum, seen, top, alive, depth, key);
+        table.store(key, depth, result);
+        return result;
+    }
+
+    /**
+     * Max node: the searcher plays the card with the best expected value, then draws.
+     *
+     * @param hand  The searcher's hand
+     * @param sum   The table sum
+     * @param seen  Cards on the table
+     * @param top   The top card of the table, or -1 if none
+     * @param alive Players still in
+     * @param depth Turns left to search
+     * @param key   Zobrist hash of the position
+     * @param root  true to record the best card
+     * @return Expected value for the searcher
+     */
+    private double searcherTurn(long hand, int sum, long seen, int top, long alive, int depth, long key,
+                                boolean root) {
+        long legal = hand & rules.playableMask(sum);
+        if (legal == 0L) {
+            return 0.0;
+        }
+        int next = nextAlive(alive, perspective);
+        long turnKey = TURN_KEYS[perspective] ^ TURN_KEYS[next] ^ topKey(top);
+        double best = -1.0;
+        long ranksTried = 0L;
+
+        for (; legal != 0L; legal &= legal - 1) {
+            int card = Long.numberOfTrailingZeros(legal);
+            int rank = Card.of(card).getRank().ordinal();
+            if ((ranksTried & (1L << rank)) != 0L) {
+                continue;
+            }
+            ranksTried |= 1L << rank;
+
+            int newSum = sum + rules.getBestValue(Card.of(card), sum);
+            long played = hand & ~(1L << card);
+            long newSeen = seen | 1L << card;
+            long newKey = key ^ HAND_KEYS[card] ^ SEEN_KEYS[card] ^ TOP_KEYS[card] ^ sumKey(sum) ^ sumKey(newSum)
+                    ^ turnKey;
+
+            long unseen = Card.ALL_CARDS_MASK & ~played & ~newSeen;
+            if (unseen == 0L) {
+                // Mazo vacío: la mesa, menos la carta de arriba, vuelve al mazo
+                newKey ^= seenKey(newSeen) ^ SEEN_KEYS[card];
+                newSeen = 1L << card;
+                unseen = Card.ALL_CARDS_MASK & ~played & ~newSeen;
+            }
+
+            double expected = 0.0;
+            double total = Long.bitCount(unseen);
+            for (int r = 0; r < RANK_MASKS.length; r++) {
+                long ofRank = unseen & RANK_MASKS[r];
+                if (ofRank != 0L) {
+                    int drawn = Long.numberOfTrailingZeros(ofRank);
+                    expected += Long.bitCount(ofRank) / total * value(next, played | 1L << drawn, newSum,
+                            newSeen, card, alive, depth - 1, newKey ^ HAND_KEYS[drawn]);
+                }
+            }
+            if (expected > best) {
+                best = expected;
+                if (root) {
+                    bestCard = card;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chance node: an opponent with an unknown hand is eliminated or plays a playable unseen card.
+     *
+     * @param seat  The opponent's seat
+     * @param hand  The searcher's hand
+     * @param sum   The table sum
+     * @param seen  Cards on the table
+     * @param top   The top card of the table
+     * @param alive Players still in
+     * @param depth Turns left to search
+     * @param key   Zobrist hash of the position
+     * @return Expected value for the searcher
+     */
+    private double opponentTurn(int seat, long hand, int sum, long seen, int top, long alive, int depth, long key) {
+        long unseen = Card.ALL_CARDS_MASK & ~hand & ~seen;
+        if (Long.bitCount(unseen) <= handSize) {
+            key ^= seenKey(seen) ^ SEEN_KEYS[top];
+            seen = 1L << top;
+            unseen = Card.ALL_CARDS_MASK & ~hand & ~seen;
+        }
+        int unseenCount = Long.bitCount(unseen);
+        long playable = unseen & rules.playableMask(sum);
+        int playableCount = Long.bitCount(playable);
+
+        // Probabilidad de que ninguna de sus cartas sea jugable (hipergeométrica)
+        double eliminated = 1.0;
+        for (int i = 0; i < handSize; i++) {
+            eliminated *= Math.max(0, unseenCount - playableCount - i) / (double) (unseenCount - i);
+        }
+
+        double expected = 0.0;
+        if (eliminated > 0.0) {
+            long left = alive & ~(1L << seat);
+            int next = nextAlive(left, seat);
+            expected += eliminated * value(next, hand, sum, seen, top, left, depth - 1,
+                    key ^ OUT_KEYS[seat] ^ TURN_KEYS[seat] ^ TURN_KEYS[next]);
+        }
+        if (playableCount > 0) {
+            int next = nextAlive(alive, seat);
+            long turnKey = TURN_KEYS[seat] ^ TURN_KEYS[next] ^ TOP_KEYS[top];
+            double weight = (1.0 - eliminated) / playableCount;
+            for (int r = 0; r < RANK_MASKS.length; r++) {
+                long ofRank = playable & RANK_MASKS[r];
+                if (ofRank != 0L) {
+                    int card = Long.numberOfTrailingZeros(ofRank);
+                    int newSum = sum + rules.getBestValue(Card.of(card), sum);
+                    expected += weight * Long.bitCount(ofRank) * value(next, hand, newSum, seen | 1L << card,
+                            card, alive, depth - 1,
+                            key ^ SEEN_KEYS[card] ^ TOP_KEYS[card] ^ sumKey(sum) ^ sumKey(newSum) ^ turnKey);
+                }
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * Scores a position at the search horizon.
+     *
+     * @param hand  The searcher's hand
+     * @param sum   The table sum
+     * @param alive Players still in
+     * @return A score in [0, 1]
+     */
+    private double evaluate(long hand, int sum, long alive) {
+        int size = Math.max(1, Long.bitCount(hand));
+        int playable = Long.bitCount(hand & rules.playableMask(sum));
+        return (0.5 + 0.5 * playable / size) / Long.bitCount(alive);
+    }
+
+    /**
+     * Hashes everything in the rules that changes the value of a position:
+     * the target sum, the hand size, the number of decks and the rank values.
+     *
+     * @param rules The rules of the game
+     * @return The rules' key
+     */
+    private static long rulesKey(RuleSet rules) {
+        long key = mix(GAME_SALT ^ rules.getTargetSum());
+        key = mix(key ^ rules.getHandSize());
+        key = mix(key ^ rules.getDeckCount());
+        for (Rank rank : Rank.values()) {
+            key = mix(key ^ ((long) rules.getHighValue(rank) << 32 | (rules.getLowValue(rank) & 0xFFFFFFFFL)));
+        }
+        return key;
+    }
+
+    /**
+     * Scrambles a 64-bit value with the SplitMix64 finalizer, so that nearby
+     * inputs give unrelated keys.
+     *
+     * @param z The value
+     * @return The scrambled value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the hash key of a table sum.
+     *
+     * @param sum The sum
+     * @return Its key
+     */
+    private static long sumKey(int sum) {
+        return SUM_KEY[sum & (SUM_KEYS - 1)];
+    }
+
+    /**
+     * Gets the hash key of the top card of the table.
+     *
+     * @param top The card id, or -1 if the table is empty
+     * @return Its key, or 0 for an empty table
+     */
+    private static long topKey(int top) {
+        return top < 0 ? 0L : TOP_KEYS[top];
+    }
+
+    /**
+     * Gets the combined hash key of a set of cards on the table.
+     *
+     * @param seen The cards
+     * @return XOR of their keys
+     */
+    private static long seenKey(long seen) {
+        long key = 0L;
+        for (; seen != 0L; seen &= seen - 1) {
+            key ^= SEEN_KEYS[Long.numberOfTrailingZeros(seen)];
+        }
+        return key;
+    }
+
+    /**
+     * Finds the next player still in after a seat, wrapping around.
+     *
+     * @param alive Players still in
+     * @param seat  The seat to start after
+     * @return The next live seat
+     */
+    private static int nextAlive(long alive, int seat) {
+        long after = alive & (-2L << seat);
+        return Long.numberOfTrailingZeros(after != 0L ? after : alive);
+    }
+
+    /**
+     * Gets the mask of every seat at a table.
+     *
+     * @param playerCount Number of seats
+     * @return Bitmask with one bit per seat
+     */
+    private static long allSeats(int playerCount) {
+        return playerCount == 64 ? -1L : (1L << playerCount) - 1;
+    }
+
+    /**
+     * Gets the number of positions expanded by the last search, cache hits excluded.
+     *
+     * @return Node count
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the card chosen by the last search.
+     *
+     * @return The card id, or -1 if the searcher had no legal card
+     */
+    int getBestCard() {
+        return bestCard;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameRandom;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.PendingMove;
+import com.example.a50zo.utils.GameLogger;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * Machine player that chooses cards with Monte Carlo tree search.
+ * The search sees only what the player sees: every iteration guesses the
+ * opponents' hands and the deck order anew (information-set MCTS), so the
+ * player does not cheat. Several independent trees are searched in parallel
+ * on a ForkJoinPool and their root statistics merged (root parallelism),
+ * which needs no locking. The search stops after a number of rollouts, a
+ * wall-clock budget, or whichever comes first. Through
+ * {@link #startChoosing(int, long)} it can also run in the background until a
+ * deadline and be cancelled, answering with the best card found so far.
+ * <p>
+ * With a rollout limit and no time budget the choice depends only on the
+ * seed and the game, not on thread timing. Games the compact
+ * {@link GameState} cannot hold (several decks, more than 64 players) are
+ * played with the greedy {@link MachinePlayer} strategy.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class MctsMachinePlayer extends MachinePlayer {
+    /** Default number of rollouts per decision. */
+    public static final int DEFAULT_ROLLOUTS = 4_000;
+
+    private static final GameLogger LOG = GameLogger.getLogger("AI");
+
+    private final long rollouts;
+    private final long timeBudgetNanos;
+    private final ForkJoinPool pool;
+    private final int trees;
+    private final RandomGenerator.SplittableGenerator random;
+    private volatile SearchReport lastReport;
+
+    /**
+     * Constructor for MctsMachinePlayer with the default rollout count,
+     * one tree per worker of the common pool.
+     *
+     * @param name The player's name
+     */
+    public MctsMachinePlayer(String name) {
+        this(name, DEFAULT_ROLLOUTS, 0L, ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool().getParallelism(), GameRandom.newSeed());
+    }
+
+    /**
+     * Constructor for MctsMachinePlayer.
+     *
+     * @param name             The player's name
+     * @param rollouts         Rollouts per decision across all trees, or 0 for no limit
+     * @param timeBudgetMillis Wall-clock budget per decision, or 0 for no limit
+     * @param pool             The pool the trees are searched on
+     * @param trees            Number of independent trees searched in parallel
+     * @param seed             Seed of the search's random source
+     */
+    public MctsMachinePlayer(String name, long rollouts, long timeBudgetMillis,
+                             ForkJoinPool pool, int trees, long seed) {
+        super(name);
+        if (rollouts < 0 || timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Budgets cannot be negative");
+        }
+        if (rollouts == 0 && timeBudgetMillis == 0) {
+            throw new IllegalArgumentException("The search needs a rollout limit or a time budget");
+        }
+        if (trees <= 0) {
+            throw new IllegalArgumentException("trees must be positive");
+        }
+        this.rollouts = rollouts;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.pool = pool;
+        this.trees = trees;
+        this.random = GameRandom.create(seed);
+    }
+
+    /**
+     * Chooses a card by searching the game from this player's point of view
+     * until the rollout limit or the time budget is reached.
+     *
+     * @param currentSum The current sum on the table
+     * @return The chosen card, or null if no valid card can be played
+     */
+    @Override
+    public Card chooseCard(int currentSum) {
+        long deadline = timeBudgetNanos == 0 ? 0L : System.nanoTime() + timeBudgetNanos;
+        return startChoosing(currentSum, deadline, timeBudgetNanos != 0).await();
+    }
+
+    /**
+     * Starts searching in the background until the deadline, the rollout
+     * limit, or a call to {@link PendingMove#cancel()}, whichever comes first.
+     * The deadline replaces the time budget for this decision. Call it on the
+     * thread that owns the game: the game is captured before this returns.
+     * Falls back to the greedy strategy when the player is not seated at a
+     * game the search can represent.
+     *
+     * @param currentSum    The current sum on the table
+     * @param deadlineNanos {@link System#nanoTime()} by which the card is needed
+     * @return The move being searched
+     */
+    @Override
+    public PendingMove startChoosing(int currentSum, long deadlineNanos) {
+        return startChoosing(currentSum, deadlineNanos, true);
+    }
+
+    /**
+     * Captures the game and starts the trees.
+     *
+     * @param currentSum    The current sum on the table
+     * @param deadlineNanos {@link System#nanoTime()} at which to stop
+     * @param timed         false if the search has no deadline
+     * @return The move being searched
+     */
+    private PendingMove startChoosing(int currentSum, long deadlineNanos, boolean timed) {
+        long legal = getPlayableMask(currentSum);
+        if (Long.bitCount(legal) <= 1) {
+            return PendingMove.completed(legal == 0L ? null : Card.of(Long.numberOfTrailingZeros(legal)));
+        }
+        GameModel table = getTable();
+        if (table == null || getRules().getDeckCount() != 1
+                || table.getPlayers().size() > GameState.MAX_PLAYERS
+                || table.getCurrentPlayer() != this || table.getTableSum() != currentSum) {
+            return PendingMove.completed(super.chooseCard(currentSum));
+        }
+
+        // 0 significa sin plazo: forzar un bit para que un plazo real nunca valga 0
+        long deadline = timed ? deadlineNanos | 1L : 0L;
+        return new ParallelSearch(table.snapshot(), getSeat(), random, trees, rollouts, deadline, pool,
+                this::searchFinished);
+    }
+
+    /**
+     * Records the report of a finished search.
+     *
+     * @param report The report
+     */
+    private void searchFinished(SearchReport report) {
+        lastReport = report;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} chose {}", name, report);
+        }
+    }
+
+    /**
+     * Gets the report of the last search, to tune strength against CPU cost.
+     *
+     * @return The last report, or null if this player has not searched yet
+     */
+    public SearchReport getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.PendingMove;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * A root-parallel search running in the background: several {@link SearchTree}s
+ * on a ForkJoinPool, stopped by their rollout share, a deadline or
+ * {@link #cancel()}. {@link #await()} joins the trees and merges their root
+ * statistics, so whatever the trees have found when they stop is the answer.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+final class ParallelSearch implements PendingMove {
+    private final SearchTree[] trees;
+    private final AtomicBoolean stop = new AtomicBoolean();
+    private final Consumer<SearchReport> onFinish;
+    private final long start;
+    private SearchReport report;
+
+    /**
+     * Creates the trees and starts them on the pool.
+     *
+     * @param root        The state to search from; its current player is the searcher
+     * @param perspective The seat of the searching player
+     * @param random      Source the trees' random generators are split from
+     * @param treeCount   Number of trees
+     * @param rollouts    Rollouts across all trees, or 0 for no limit
+     * @param deadline    {@link System#nanoTime()} at which to stop, or 0 for no deadline
+     * @param pool        The pool running the trees
+     * @param onFinish    Receives the report once the search has been collected
+     */
+    ParallelSearch(GameState root, int perspective, RandomGenerator.SplittableGenerator random, int treeCount,
+                   long rollouts, long deadline, ForkJoinPool pool, Consumer<SearchReport> onFinish) {
+        this.onFinish = onFinish;
+        this.start = System.nanoTime();
+        this.trees = new SearchTree[treeCount];
+        for (int i = 0; i < treeCount; i++) {
+            long limit = rollouts == 0 ? 0L : Math.max(1L, rollouts / treeCount + (i < rollouts % treeCount ? 1 : 0));
+            trees[i] = new SearchTree(root, perspective, random.split(), limit, deadline, stop);
+        }
+        for (SearchTree tree : trees) {
+            pool.execute(tree);
+        }
+    }
+
+    /**
+     * Waits for every tree to stop and returns the most visited root move.
+     *
+     * @return The chosen card
+     */
+    @Override
+    public synchronized Card await() {
+        if (report == null) {
+            long[] visits = new long[GameState.ELIMINATE + 1];
+            double[] wins = new double[GameState.ELIMINATE + 1];
+            long iterations = 0;
+            for (SearchTree tree : trees) {
+                tree.join();
+                tree.addRootStatistics(visits, wins);
+                iterations += tree.getIterations();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            int bestMove = -1;
+            for (int move = 0; move < Card.COUNT; move++) {
+                if (visits[move] > 0 && (bestMove < 0 || visits[move] > visits[bestMove])) {
+                    bestMove = move;
+                }
+            }
+            report = new SearchReport(Card.of(bestMove), iterations, elapsed, trees.length,
+                    wins[bestMove] / visits[bestMove]);
+            onFinish.accept(report);
+        }
+        return report.getChosenCard();
+    }
+
+    /**
+     * Makes every tree stop after its current iteration.
+     */
+    @Override
+    public void cancel() {
+        stop.set(true);
+    }
+
+    /**
+     * Checks whether every tree has stopped.
+     *
+     * @return true if {@link #await()} will not block
+     */
+    @Override
+    public boolean isDone() {
+        for (SearchTree tree : trees) {
+            if (!tree.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
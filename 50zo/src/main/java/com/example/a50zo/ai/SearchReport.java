@@ -0,0 +1,99 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+
+/**
+ * Immutable summary of one search run by a machine player.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class SearchReport {
+    private final Card chosenCard;
+    private final long iterations;
+    private final long elapsedNanos;
+    private final int workers;
+    private final double expectedValue;
+
+    /**
+     * Constructor for SearchReport.
+     *
+     * @param chosenCard    The card the search picked, or null if none was playable
+     * @param iterations    Number of rollouts or nodes the search evaluated
+     * @param elapsedNanos  Wall-clock time of the search
+     * @param workers       Number of threads that searched
+     * @param expectedValue Estimated chance of winning with the chosen card, in [0, 1]
+     */
+    public SearchReport(Card chosenCard, long iterations, long elapsedNanos, int workers, double expectedValue) {
+        this.chosenCard = chosenCard;
+        this.iterations = iterations;
+        this.elapsedNanos = elapsedNanos;
+        this.workers = workers;
+        this.expectedValue = expectedValue;
+    }
+
+    /**
+     * Gets the card the search picked.
+     *
+     * @return The chosen card, or null
+     */
+    public Card getChosenCard() {
+        return chosenCard;
+    }
+
+    /**
+     * Gets the number of rollouts or nodes evaluated.
+     *
+     * @return Iteration count
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the wall-clock time of the search.
+     *
+     * @return Elapsed nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of threads that searched.
+     *
+     * @return Worker count
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Gets the estimated chance of winning with the chosen card.
+     *
+     * @return Expected value in [0, 1]
+     */
+    public double getExpectedValue() {
+        return expectedValue;
+    }
+
+    /**
+     * Gets the search throughput.
+     *
+     * @return Iterations per second
+     */
+    public double getIterationsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : iterations * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line summary of the search.
+     *
+     * @return Summary string
+     */
+    @Override
+    public String toString() {
+        return String.format("%s after %,d iterations in %.1f ms on %d workers (%,.0f/s, value %.3f)",
+                chosenCard, iterations, elapsedNanos / 1e6, workers, getIterationsPerSecond(), expectedValue);
+    }
+}
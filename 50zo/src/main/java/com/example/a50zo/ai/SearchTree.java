@@ -0,0 +1,245 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.GameState;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * One information-set Monte Carlo search tree (single observer ISMCTS).
+ * Every iteration deals a fresh guess of the hidden cards with
+ * {@link GameState#determinize(int, RandomGenerator)}, walks the tree with
+ * UCB1 restricted to the moves that exist in that guess, adds one node, plays
+ * the game out with uniformly random moves and credits the winner.
+ * A node's exploration term uses how many times it was available rather
+ * than its parent's visits, since under different guesses an opponent node
+ * holds different cards.
+ * <p>
+ * A tree is confined to the worker that runs it; root-parallel searches run
+ * several independent trees and merge the root statistics afterwards.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+final class SearchTree extends RecursiveAction {
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_PLAYOUT_PLIES = 1_000;
+    private static final int MAX_MOVES = GameState.ELIMINATE + 1;
+
+    private final GameState root;
+    private final GameState work;
+    private final int perspective;
+    private final RandomGenerator random;
+    private final long iterationLimit;
+    private final long deadline;
+    private final AtomicBoolean stop;
+    private final Node rootNode = new Node(-1, -1);
+    private final Node[] path = new Node[MAX_PLAYOUT_PLIES + 1];
+    private final int[] moves = new int[MAX_MOVES];
+    private long iterations;
+
+    /**
+     * Constructor for SearchTree.
+     *
+     * @param root           The state to search from, shared read-only with other trees
+     * @param perspective    The seat of the searching player, whose hand is known
+     * @param random         The tree's own random source
+     * @param iterationLimit Number of iterations to run, or 0 for no limit
+     * @param deadline       {@link System#nanoTime()} at which to stop, or 0 for no deadline
+     * @param stop           Flag that stops the search early when set
+     */
+    SearchTree(GameState root, int perspective, RandomGenerator random, long iterationLimit, long deadline,
+               AtomicBoolean stop) {
+        this.root = root;
+        this.work = root.copy();
+        this.perspective = perspective;
+        this.random = random;
+        this.iterationLimit = iterationLimit;
+        this.deadline = deadline;
+        this.stop = stop;
+    }
+
+    /**
+     * Runs iterations until the limit or the deadline is reached or the search is stopped.
+     * At least one iteration always runs, so the root has a move to report.
+     */
+    @Override
+    protected void compute() {
+        do {
+            iterate();
+            iterations++;
+        } while ((iterationLimit == 0 || iterations < iterationLimit)
+                && (deadline == 0 || System.nanoTime() - deadline < 0)
+                && !stop.get());
+    }
+
+    /**
+     * Runs one determinize-select-expand-playout-backpropagate iteration.
+     */
+    private void iterate() {
+        work.copyFrom(root);
+        work.determinize(perspective, random);
+
+        Node node = rootNode;
+        int length = 0;
+        path[length++] = node;
+
+        // Selección y expansión
+        while (!work.isGameOver()) {
+            int count = listMoves(work);
+            Node untried = null;
+            int untriedSeen = 0;
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < count; i++) {
+                Node child = node.child(moves[i]);
+                if (child == null) {
+                    // Reservoir de tamaño 1: elegir al azar una jugada sin probar
+                    if (random.nextInt(++untriedSeen) == 0) {
+                        untried = new Node(moves[i], work.getCurrentPlayer());
+                    }
+                    continue;
+                }
+                child.availability++;
+                double score = child.wins / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+
+            if (untried != null) {
+                untried.availability++;
+                node.add(untried);
+                work.apply(untried.move);
+                path[length++] = untried;
+                break;
+            }
+            work.apply(best.move);
+            node = best;
+            path[length++] = node;
+            if (length == path.length) {
+                break;
+            }
+        }
+
+        // Simulación
+        for (int plies = length; plies < MAX_PLAYOUT_PLIES && !work.isGameOver(); plies++) {
+            int count = listMoves(work);
+            work.apply(moves[random.nextInt(count)]);
+        }
+
+        // Retropropagación
+        int winner = work.getWinner();
+        long alive = work.getAliveMask();
+        double share = 1.0 / Long.bitCount(alive);
+        for (int i = 1; i < length; i++) {
+            Node visited = path[i];
+            visited.visits++;
+            if (winner >= 0) {
+                visited.wins += visited.player == winner ? 1.0 : 0.0;
+            } else if ((alive & (1L << visited.player)) != 0L) {
+                visited.wins += share;
+            }
+        }
+        rootNode.visits++;
+    }
+
+    /**
+     * Lists the legal moves of the current player into {@link #moves}.
+     *
+     * @param state The state
+     * @return Number of moves listed, at least 1
+     */
+    private int listMoves(GameState state) {
+        long legal = state.legalMoves();
+        if (legal == 0L) {
+            moves[0] = GameState.ELIMINATE;
+            return 1;
+        }
+        int count = 0;
+        for (; legal != 0L; legal &= legal - 1) {
+            moves[count++] = Long.numberOfTrailingZeros(legal);
+        }
+        return count;
+    }
+
+    /**
+     * Adds this tree's root statistics to per-move totals.
+     *
+     * @param visits Visits per move, indexed by move
+     * @param wins   Wins per move, indexed by move
+     */
+    void addRootStatistics(long[] visits, double[] wins) {
+        for (int i = 0; i < rootNode.childCount; i++) {
+            Node child = rootNode.children[i];
+            visits[child.move] += child.visits;
+            wins[child.move] += child.wins;
+        }
+    }
+
+    /**
+     * Gets the number of iterations run.
+     *
+     * @return Iteration count
+     */
+    long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * A node of the tree: the move that leads to it and its statistics.
+     */
+    private static final class Node {
+        private final int move;
+        private final int player;
+        private Node[] children = new Node[4];
+        private int childCount;
+        private int visits;
+        private int availability;
+        private double wins;
+
+        /**
+         * Constructor for Node.
+         *
+         * @param move   The move that leads to this node
+         * @param player The seat that made the move
+         */
+        Node(int move, int player) {
+            this.move = move;
+            this.player = player;
+        }
+
+        /**
+         * Finds the child reached by a move.
+         * Nodes have a few children, so a linear scan beats a 53-slot table.
+         *
+         * @param move The move
+         * @return The child, or null if the move has not been tried here
+         */
+        Node child(int move) {
+            for (int i = 0; i < childCount; i++) {
+                if (children[i].move == move) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a child.
+         *
+         * @param child The new child
+         */
+        void add(Node child) {
+            if (childCount == children.length) {
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            children[childCount++] = child;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.a50zo.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free cache of search results keyed by 64-bit Zobrist hashes.
+ * The table never grows: it holds {@code 2^sizeBits} entries of two longs in
+ * one AtomicLongArray, grouped in buckets of two. When a bucket is full the
+ * new result replaces the entry from an older search, or else the one
+ * searched to the smaller depth, so memory stays bounded and deep results
+ * survive longest.
+ * <p>
+ * Threads read and write without locks. An entry is stored as
+ * {@code key ^ data} next to {@code data}; a reader that sees halves of two
+ * different writes gets a key that does not match and treats it as a miss,
+ * so a torn entry is never returned.
+ * <p>
+ * The table trusts its keys: whoever shares it must hash in everything
+ * that changes a stored value. {@link ExpectimaxSearch} keys positions by
+ * the searcher, the rules and the number of players as well as the cards.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class TranspositionTable {
+    private static final long VALID = 1L << 48;
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_ENTRIES = 2;
+
+    private final AtomicLongArray slots;
+    private final int bucketMask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * Constructor for TranspositionTable.
+     *
+     * @param sizeBits Base-2 logarithm of the number of entries, 1 to 26;
+     *                 each entry takes 16 bytes
+     */
+    public TranspositionTable(int sizeBits) {
+        if (sizeBits < 1 || sizeBits > 26) {
+            throw new IllegalArgumentException("sizeBits must be between 1 and 26: " + sizeBits);
+        }
+        this.slots = new AtomicLongArray(ENTRY_LONGS << sizeBits);
+        this.bucketMask = (1 << sizeBits) / BUCKET_ENTRIES - 1;
+    }
+
+    /**
+     * Looks up the value of a position searched at least to a depth.
+     *
+     * @param key   Zobrist hash of the position
+     * @param depth Depth the caller is about to search
+     * @return The stored value, or NaN if there is none deep enough
+     */
+    public double probe(long key, int depth) {
+        probes.increment();
+        int base = bucketBase(key);
+        for (int entry = 0; entry < BUCKET_ENTRIES; entry++) {
+            int index = base + entry * ENTRY_LONGS;
+            long data = slots.getAcquire(index + 1);
+            if ((slots.getAcquire(index) ^ data) == key && (data & VALID) != 0L && depthOf(data) >= depth) {
+                hits.increment();
+                return Float.intBitsToFloat((int) data);
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the value of a position.
+     *
+     * @param key   Zobrist hash of the position
+     * @param depth Depth the position was searched to, 0 to 255
+     * @param value The value found
+     */
+    public void store(long key, int depth, double value) {
+        int base = bucketBase(key);
+        int current = generation & 0xFF;
+        int victim = -1;
+        int victimScore = Integer.MAX_VALUE;
+
+        for (int entry = 0; entry < BUCKET_ENTRIES; entry++) {
+            int index = base + entry * ENTRY_LONGS;
+            long data = slots.getAcquire(index + 1);
+            if ((data & VALID) == 0L) {
+                victim = index;
+                victimScore = Integer.MIN_VALUE;
+                break;
+            }
+            if ((slots.getAcquire(index) ^ data) == key) {
+                if (depthOf(data) > depth && generationOf(data) == current) {
+                    return;
+                }
+                victim = index;
+                victimScore = Integer.MIN_VALUE;
+                break;
+            }
+            // Preferir reemplazar entradas de búsquedas anteriores, luego las menos profundas
+            int score = (generationOf(data) == current ? 256 : 0) + depthOf(data);
+            if (score < victimScore) {
+                victim = index;
+                victimScore = score;
+            }
+        }
+
+        if (victimScore != Integer.MIN_VALUE) {
+            replacements.increment();
+        }
+        long data = VALID
+                | (long) current << 40
+                | (long) (depth & 0xFF) << 32
+                | (Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL);
+        slots.setRelease(victim + 1, data);
+        slots.setRelease(victim, key ^ data);
+        stores.increment();
+    }
+
+    /**
+     * Starts a new search: entries from earlier searches become the first to be replaced.
+     * Their values stay usable until then.
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * Empties the table and resets its statistics. Not safe while other threads use the table.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setPlain(i, 0L);
+        }
+        probes.reset();
+        hits.reset();
+        stores.reset();
+        replacements.reset();
+    }
+
+    /**
+     * Finds the first long of a key's bucket.
+     *
+     * @param key The key
+     * @return Index in {@link #slots}
+     */
+    private int bucketBase(long key) {
+        // Los bits altos del hash eligen el cubo
+        return ((int) (key >>> 32) & bucketMask) * BUCKET_ENTRIES * ENTRY_LONGS;
+    }
+
+    /**
+     * Extracts the searched depth of an entry.
+     *
+     * @param data The entry's data
+     * @return The depth
+     */
+    private static int depthOf(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    /**
+     * Extracts the search generation of an entry.
+     *
+     * @param data The entry's data
+     * @return The generation, modulo 256
+     */
+    private static int generationOf(long data) {
+        return (int) (data >>> 40) & 0xFF;
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return Capacity in entries
+     */
+    public int getCapacity() {
+        return slots.length() / ENTRY_LONGS;
+    }
+
+    /**
+     * Gets the memory taken by the entries.
+     *
+     * @return Size in bytes
+     */
+    public long getMemoryBytes() {
+        return (long) slots.length() * Long.BYTES;
+    }
+
+    /**
+     * Gets the number of lookups.
+     *
+     * @return Probe count
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found a usable value.
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of values stored.
+     *
+     * @return Store count
+     */
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * Gets the number of stores that evicted a different position.
+     *
+     * @return Replacement count
+     */
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    /**
+     * Gets the share of lookups that found a usable value.
+     *
+     * @return Hit rate in [0, 1]
+     */
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0.0 : (double) hits.sum() / probeCount;
+    }
+
+    /**
+     * Returns a summary of the table's use.
+     *
+     * @return Summary string
+     */
+    @Override
+    public String toString() {
+        return String.format("%,d entries (%,d KB), %,d probes, %.1f%% hits, %,d stores, %,d replacements",
+                getCapacity(), getMemoryBytes() / 1024, getProbes(), 100 * getHitRate(),
+                getStores(), getReplacements());
+    }
+}
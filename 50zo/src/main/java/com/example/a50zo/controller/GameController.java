@@ -1,15 +1,24 @@
 package com.example.a50zo.controller;
 
+import com.example.a50zo.ai.MctsMachinePlayer;
+import com.example.a50zo.events.GameEvent;
+import com.example.a50zo.events.GameEventBus;
+import com.example.a50zo.events.GameEventPublisher;
 import com.example.a50zo.exceptions.EmptyDeckException;
 import com.example.a50zo.exceptions.InvalidCardPlayException;
 import com.example.a50zo.exceptions.PlayerEliminatedException;
 import com.example.a50zo.model.*;
+import com.example.a50zo.utils.CardAtlas;
 import com.example.a50zo.utils.CardImageLoader;
+import com.example.a50zo.utils.FrameTimeMonitor;
+import com.example.a50zo.utils.GameLogger;
 import com.example.a50zo.view.Alert;
 import com.example.a50zo.view.WelcomeStage;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
@@ -21,13 +30,20 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 /**
  * Main game controller that manages game logic and UI updates.
  * Implements event handling for card plays and turn management.
- * Uses threads for machine player timing.
+ * The game runs on a single engine thread, the TurnScheduler thread, which is
+ * the only thread that touches the GameModel. The model's changes reach the
+ * view as immutable {@link GameEvent}s on a lock-free {@link GameEventBus};
+ * the JavaFX Application Thread drains them once per pulse into its own copy
+ * of the visible state and redraws only what changed.
  *
  * @author Cincuentazo Team
  * @version 1.0
@@ -82,55 +98,137 @@ public class GameController {
     @FXML
     private Button btnMainMenu;
 
+    private static final int HUMAN_SEAT = 0;
+    // Búsqueda de las máquinas: tope de rollouts por jugada y árboles en paralelo
+    private static final long MACHINE_ROLLOUTS = 100_000;
+    private static final long MACHINE_BUDGET_MILLIS = 1_000;
+    private static final int MACHINE_TREES = 2;
+    private static final GameLogger LOG = GameLogger.getLogger("GAME");
+
+    // Compartido: inmutable una vez creado en initializeGame
+    private List<Player> seats;
+    private TurnScheduler turnScheduler;
+
+    // Estado del hilo del motor (turn-scheduler)
     private GameModel gameModel;
-    private CardImageLoader imageLoader;
+    private GameEventBus eventBus;
+    private RandomGenerator random;
+    private boolean awaitingHumanMove = false;
+    private boolean humanEliminationChecked = false;
+    // Escrito por el motor; cualquier hilo puede cancelarlo
+    private final PendingMoveSlot pendingMove = new PendingMoveSlot();
+
+    // Estado del hilo de JavaFX, alimentado solo por eventos
+    private CardAtlas handAtlas;
+    private CardAtlas backAtlas;
+    private CardAtlas tableAtlas;
+    private GameEventPump eventPump;
+    private final FrameTimeMonitor frameMonitor = new FrameTimeMonitor();
     private List<ImageView> playerCardViews;
-    private Thread machinePlayerThread;
-    private volatile boolean isProcessingTurn = false;
-    private volatile boolean humanEliminationChecked = false;
-    private static final boolean DEBUG = true;
+    private Label eliminatedLabel;
+    private final Map<VBox, HBox> machineCardBoxes = new HashMap<>();
+    private final List<Card> humanHand = new ArrayList<>();
+    private int[] handSizes;
+    private boolean[] eliminatedSeats;
+    private Card viewTopCard;
+    private int viewTableSum;
+    private RuleSet viewRules = RuleSet.standard();
+    private int viewDeckSize;
+    private Player viewCurrentPlayer;
+    private boolean humanInputEnabled = false;
+    private boolean tableDirty;
+    private boolean deckDirty;
+    private boolean turnDirty;
+    private boolean humanHandDirty;
+    private int dirtySeats;
 
     /**
      * Initializes the controller.
      */
     @FXML
     public void initialize() {
-        imageLoader = CardImageLoader.getInstance();
+        CardImageLoader imageLoader = CardImageLoader.getInstance();
+        handAtlas = imageLoader.getAtlas(CardAtlas.Size.HAND);
+        backAtlas = imageLoader.getAtlas(CardAtlas.Size.BACK);
+        tableAtlas = imageLoader.getAtlas(CardAtlas.Size.TABLE);
         playerCardViews = new ArrayList<>();
+        // Las acciones corren en el propio hilo del planificador: el hilo del motor
+        turnScheduler = new TurnScheduler(Runnable::run);
+        eventPump = new GameEventPump(this::applyEvent, this::renderChanges);
     }
 
     /**
      * Initializes a new game with the specified number of machine players.
+     * Runs on the FX thread; the model is handed to the engine thread right after
+     * it is created and never touched here again.
+     * The seed is logged so the deal can be replayed by passing it back
+     * through the {@code cincuentazo.seed} system property; the machines search
+     * against the clock, so their choices may still differ between replays.
      *
      * @param numberOfMachinePlayers Number of machine players (1-3)
      */
     public void initializeGame(int numberOfMachinePlayers) {
-        gameModel = new GameModel(numberOfMachinePlayers);
+        turnScheduler.cancelAll();
+        pendingMove.cancel();
+        long seed = Long.getLong("cincuentazo.seed", GameRandom.newSeed());
+        List<Player> players = new ArrayList<>();
+        players.add(new HumanPlayer("You"));
+        for (int i = 1; i <= numberOfMachinePlayers; i++) {
+            players.add(new MctsMachinePlayer("Machine " + i, MACHINE_ROLLOUTS, MACHINE_BUDGET_MILLIS,
+                    ForkJoinPool.commonPool(), MACHINE_TREES, seed + i));
+        }
+        GameModel model = new GameModel(players, GameRandom.create(seed));
+        RandomGenerator delays = GameRandom.create(seed).split();
+        LOG.info("New game with seed {}", seed);
+        GameEventBus bus = new GameEventBus();
+        model.addListener(new GameEventPublisher(bus));
+
+        seats = List.copyOf(model.getPlayers());
+        viewRules = model.getRules();
+        handSizes = new int[seats.size()];
+        eliminatedSeats = new boolean[seats.size()];
+        humanHand.clear();
+        humanInputEnabled = false;
 
         // Deshabilitar botones SOLO al inicio del juego (no después)
-        if (!gameModel.getHumanPlayer().isEliminated()) {
-            btnNewGame.setDisable(true);
-            btnMainMenu.setDisable(true);
-        }
+        btnNewGame.setDisable(true);
+        btnMainMenu.setDisable(true);
 
+        setupMachinePlayers(numberOfMachinePlayers);
+        eventPump.start(bus);
+        turnScheduler.schedule(0, () -> startGame(model, bus, delays));
+    }
+
+    /**
+     * Deals the cards and starts the first turn. Runs on the engine thread.
+     *
+     * @param model  The new game
+     * @param bus    The bus the view drains for this game
+     * @param delays Source of the machine players' thinking delays
+     */
+    private void startGame(GameModel model, GameEventBus bus, RandomGenerator delays) {
+        gameModel = model;
+        eventBus = bus;
+        random = delays;
+        // Una búsqueda iniciada tras cancelAll sigue viva: detenerla antes de soltarla
+        pendingMove.clear();
+        awaitingHumanMove = false;
         // Resetear flag de eliminación
         humanEliminationChecked = false;
 
         try {
             gameModel.initializeGame();
-            setupMachinePlayers(numberOfMachinePlayers);
-            updateUI();
 
             // Verificar y comenzar el turno apropiado
             checkAndStartTurn();
 
         } catch (EmptyDeckException e) {
-            Alert.showError("Error", "Game Initialization Failed", e.getMessage());
+            Platform.runLater(() -> Alert.showError("Error", "Game Initialization Failed", e.getMessage()));
         }
     }
 
     /**
-     * Verifica y comienza el turno del jugador actual
+     * Verifica y comienza el turno del jugador actual (hilo del motor)
      */
     private void checkAndStartTurn() {
         if (gameModel.isGameOver()) {
@@ -139,16 +237,12 @@ public class GameController {
         }
 
         Player currentPlayer = gameModel.getCurrentPlayer();
-        log("=== CHECK AND START TURN ===");
-        log("Current player: " + currentPlayer.getName());
-        log("Player index: " + gameModel.getPlayers().indexOf(currentPlayer));
-        log("Is human: " + (currentPlayer instanceof HumanPlayer));
-        log("Is eliminated: " + currentPlayer.isEliminated());
-        log("Table sum: " + gameModel.getTableSum());
+        LOG.debug("=== CHECK AND START TURN === {} (eliminated: {})", currentPlayer, currentPlayer.isEliminated());
+        LOG.debug("Table sum: {}, pending scheduled tasks: {}", gameModel.getTableSum(), turnScheduler.getPendingTaskCount());
 
         // Si el jugador actual está eliminado, avanzar al siguiente
         if (currentPlayer.isEliminated()) {
-            log("⚠️ Current player is eliminated, advancing turn");
+            LOG.debug("Current player is eliminated, advancing turn");
             gameModel.nextTurn();
             checkAndStartTurn();
             return;
@@ -156,109 +250,71 @@ public class GameController {
 
         // Verificar movimientos válidos
         boolean hasValidMoves = currentPlayer.hasValidMove(gameModel.getTableSum());
-        log("Has valid moves: " + hasValidMoves);
+        LOG.debug("Has valid moves: {}", hasValidMoves);
 
-        if (!hasValidMoves) {
-            log("Current hand:");
-            for (Card card : currentPlayer.getHand()) {
-                int newSum = gameModel.getTableSum() + card.getBestValue(gameModel.getTableSum());
-                log("  - " + card + " would result in: " + newSum + " (can play: " + card.canBePlayed(gameModel.getTableSum()) + ")");
+        if (!hasValidMoves && LOG.isDebugEnabled()) {
+            for (Card card : currentPlayer.getHandView()) {
+                int newSum = gameModel.getTableSum() + gameModel.getRules().getBestValue(card, gameModel.getTableSum());
+                LOG.debug("  - {} would result in: {}", card, newSum);
             }
         }
 
         if (currentPlayer instanceof HumanPlayer) {
-            HumanPlayer humanPlayer = (HumanPlayer) currentPlayer;
-
             if (!hasValidMoves) {
-                log("⚠️ Human player has NO valid moves - eliminating");
+                LOG.debug("Human player has NO valid moves - eliminating");
                 eliminateHumanPlayer();
             } else {
-                log("✅ Human player can play - waiting for card selection");
-                isProcessingTurn = false;
+                LOG.debug("Human player can play - waiting for card selection");
+                awaitingHumanMove = true;
                 humanEliminationChecked = false;
+                eventBus.publish(GameEvent.awaitingMove(currentPlayer, gameModel.getTableSum()));
             }
         } else {
-            log("🤖 Starting machine player turn");
+            LOG.debug("Starting machine player turn");
             startMachineTurn();
         }
     }
     /**
-     * Elimina al jugador humano cuando no tiene movimientos válidos
+     * Elimina al jugador humano cuando no tiene movimientos válidos (hilo del motor)
      */
     private void eliminateHumanPlayer() {
         if (humanEliminationChecked) {
-            log("Human elimination already processed");
+            LOG.debug("Human elimination already processed");
             return;
         }
 
         humanEliminationChecked = true;
-        isProcessingTurn = true;
 
         try {
             // Eliminar jugador
             gameModel.eliminateCurrentPlayer();
-            log("Human player eliminated successfully");
-
-            // Avanzar turno
-            if (!gameModel.isGameOver()) {
-                gameModel.nextTurn();
-                log("Turn advanced to: " + gameModel.getCurrentPlayer().getName());
-            }
-
         } catch (PlayerEliminatedException e) {
-            log("PlayerEliminatedException: " + e.getMessage());
+            LOG.info("Human player eliminated: {}", e.getMessage());
         }
 
-        // Actualizar UI
-        Platform.runLater(() -> updateUI());
-
-        // Mostrar alerta SIN BLOQUEAR
-        Thread alertThread = new Thread(() -> {
-            Platform.runLater(() -> {
-                Alert.showWarning(
-                        "No Valid Moves!",
-                        "You're Eliminated!",
-                        "You have no cards that can be played without exceeding 50.\nYou are eliminated from the game!"
-                );
-            });
-        });
-        alertThread.setDaemon(true);
-        alertThread.start();
+        // Avanzar turno
+        if (!gameModel.isGameOver()) {
+            gameModel.nextTurn();
+            LOG.debug("Turn advanced to: {}", gameModel.getCurrentPlayer());
+        }
 
         if (gameModel.isGameOver()) {
-            log("Game Over - Final winner check");
-            Platform.runLater(() -> {
-                updateUI(); // Actualizar UI final
-                btnNewGame.setDisable(false);
-                btnMainMenu.setDisable(false);
-                handleGameOver();
-            });
+            LOG.debug("Game Over - Final winner check");
+            handleGameOver();
         } else {
             // El juego continúa con las máquinas
-            log("=== GAME CONTINUES ===");
-            log("Active players: " + gameModel.getActivePlayers().size());
-            for (Player p : gameModel.getActivePlayers()) {
-                log("  - " + p.getName() + " (Hand: " + p.getHandSize() + " cards)");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("=== GAME CONTINUES === Next player: {}", gameModel.getCurrentPlayer());
+                for (Player p : gameModel.getActivePlayers()) {
+                    LOG.debug("  - {} (Hand: {} cards)", p, p.getHandSize());
+                }
             }
-            log("Next player: " + gameModel.getCurrentPlayer().getName());
-
-            // Esperar y continuar en un thread separado
-            Thread continueThread = new Thread(() -> {
-                try {
-                    Thread.sleep(2500); // Dar tiempo para que se vea la alerta
 
-                    Platform.runLater(() -> {
-                        log("Resuming game after human elimination");
-                        isProcessingTurn = false;
-                        checkAndStartTurn();
-                    });
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+            // Dar tiempo para que se vea la alerta y continuar
+            turnScheduler.schedule(2500, () -> {
+                LOG.debug("Resuming game after human elimination");
+                checkAndStartTurn();
             });
-            continueThread.setDaemon(true);
-            continueThread.start();
         }
     }
     /**
@@ -272,41 +328,151 @@ public class GameController {
         vboxMachine3.setVisible(count >= 3);
 
         if (count >= 1) {
-            lblMachine1.setText(gameModel.getPlayers().get(1).getName());
+            lblMachine1.setText(seats.get(1).getName());
             updateMachineCards(vboxMachine1, 4);
         }
         if (count >= 2) {
-            lblMachine2.setText(gameModel.getPlayers().get(2).getName());
+            lblMachine2.setText(seats.get(2).getName());
             updateMachineCards(vboxMachine2, 4);
         }
         if (count >= 3) {
-            lblMachine3.setText(gameModel.getPlayers().get(3).getName());
+            lblMachine3.setText(seats.get(3).getName());
             updateMachineCards(vboxMachine3, 4);
         }
     }
 
     /**
-     * Updates all UI elements to reflect current game state.
+     * Applies one engine event to the view state and marks what must be redrawn.
+     * Runs on the FX thread, inside a pulse.
+     *
+     * @param event The event to apply
+     */
+    private void applyEvent(GameEvent event) {
+        switch (event.getType()) {
+            case GAME_STARTED -> {
+                viewTopCard = event.getCard();
+                viewTableSum = event.getTableSum();
+                viewDeckSize = event.getDeckSize();
+                viewCurrentPlayer = seats.get(HUMAN_SEAT);
+                tableDirty = true;
+                deckDirty = true;
+                turnDirty = true;
+                humanHandDirty = true;
+            }
+            case CARD_PLAYED -> {
+                viewTopCard = event.getCard();
+                viewTableSum = event.getTableSum();
+                tableDirty = true;
+                // La nueva suma cambia qué cartas del humano son jugables
+                humanHandDirty = true;
+                moveCard(event.getPlayer(), event.getCard(), false);
+            }
+            case CARD_DRAWN -> {
+                viewDeckSize = event.getDeckSize();
+                deckDirty = true;
+                moveCard(event.getPlayer(), event.getCard(), true);
+            }
+            case DECK_REPLENISHED -> {
+                viewDeckSize = event.getDeckSize();
+                deckDirty = true;
+            }
+            case PLAYER_ELIMINATED -> {
+                viewDeckSize = event.getDeckSize();
+                deckDirty = true;
+                int seat = seats.indexOf(event.getPlayer());
+                eliminatedSeats[seat] = true;
+                handSizes[seat] = 0;
+                markSeatDirty(seat);
+                showEliminationAlert(event.getPlayer());
+            }
+            case TURN_CHANGED -> {
+                viewCurrentPlayer = event.getPlayer();
+                turnDirty = true;
+                humanInputEnabled = false;
+            }
+            case AWAITING_MOVE -> {
+                viewTableSum = event.getTableSum();
+                humanInputEnabled = true;
+            }
+            case GAME_OVER -> {
+                humanInputEnabled = false;
+                showGameOver(event.getPlayer());
+            }
+        }
+    }
+
+    /**
+     * Records a card entering or leaving a player's hand.
+     *
+     * @param player The player whose hand changed
+     * @param card   The card moved
+     * @param added  true if the card entered the hand
+     */
+    private void moveCard(Player player, Card card, boolean added) {
+        int seat = seats.indexOf(player);
+        handSizes[seat] += added ? 1 : -1;
+        if (seat == HUMAN_SEAT) {
+            if (added) {
+                humanHand.add(card);
+            } else {
+                humanHand.remove(card);
+            }
+        }
+        markSeatDirty(seat);
+    }
+
+    /**
+     * Marks a seat's hand or status for redraw.
+     *
+     * @param seat The seat index
      */
-    private void updateUI() {
-        updateTableDisplay();
-        updatePlayerHand();
-        updateMachinePlayersDisplay();
-        updateGameInfo();
+    private void markSeatDirty(int seat) {
+        if (seat == HUMAN_SEAT) {
+            humanHandDirty = true;
+        } else {
+            dirtySeats |= 1 << seat;
+        }
+    }
+
+    /**
+     * Redraws the parts of the view marked by the events of the last batch.
+     */
+    private void renderChanges() {
+        if (tableDirty) {
+            updateTableDisplay(viewTopCard, viewTableSum);
+        }
+        if (deckDirty) {
+            updateDeckSize(viewDeckSize);
+        }
+        if (turnDirty) {
+            updateCurrentPlayer(viewCurrentPlayer);
+        }
+        if (humanHandDirty) {
+            updatePlayerHand();
+        }
+        for (int pending = dirtySeats; pending != 0; pending &= pending - 1) {
+            updateMachineSeat(Integer.numberOfTrailingZeros(pending));
+        }
+        tableDirty = false;
+        deckDirty = false;
+        turnDirty = false;
+        humanHandDirty = false;
+        dirtySeats = 0;
     }
 
     /**
      * Updates the table card and sum display.
+     *
+     * @param topCard The card on top of the table, may be null
+     * @param sum     The table sum
      */
-    private void updateTableDisplay() {
-        Card topCard = gameModel.getTopCard();
+    private void updateTableDisplay(Card topCard, int sum) {
         if (topCard != null) {
-            imgTableCard.setImage(imageLoader.getCardImage(topCard.getImageFileName()));
+            tableAtlas.show(imgTableCard, topCard.getImageFileName());
         }
-        lblTableSum.setText(String.valueOf(gameModel.getTableSum()));
+        lblTableSum.setText(String.valueOf(sum));
 
         // Add visual effect to table sum
-        int sum = gameModel.getTableSum();
         if (sum > 40) {
             lblTableSum.setStyle("-fx-text-fill: #ff4444; -fx-font-weight: bold;");
         } else if (sum > 30) {
@@ -318,37 +484,77 @@ public class GameController {
 
     /**
      * Updates the human player's hand display.
+     * Card views are pooled, one per hand slot; only slots whose card or
+     * playability changed are touched, and nodes are only added or removed
+     * when the hand size changes.
      */
     private void updatePlayerHand() {
-        hboxPlayerHand.getChildren().clear();
-        playerCardViews.clear();
-
-        HumanPlayer humanPlayer = gameModel.getHumanPlayer();
-
-        if (humanPlayer.isEliminated()) {
-            Label eliminatedLabel = new Label("❌ YOU ARE ELIMINATED ❌");
-            eliminatedLabel.setStyle("-fx-text-fill: #ff4444; -fx-font-size: 24px; -fx-font-weight: bold;");
-            hboxPlayerHand.getChildren().add(eliminatedLabel);
+        if (eliminatedSeats[HUMAN_SEAT]) {
+            if (eliminatedLabel == null) {
+                eliminatedLabel = new Label("❌ YOU ARE ELIMINATED ❌");
+                eliminatedLabel.setStyle("-fx-text-fill: #ff4444; -fx-font-size: 24px; -fx-font-weight: bold;");
+            }
+            if (hboxPlayerHand.getChildren().size() != 1 || hboxPlayerHand.getChildren().get(0) != eliminatedLabel) {
+                hboxPlayerHand.getChildren().setAll(eliminatedLabel);
+            }
             return;
         }
 
-        List<Card> hand = humanPlayer.getHand();
+        while (playerCardViews.size() < humanHand.size()) {
+            playerCardViews.add(createCardView());
+        }
+        for (int i = 0; i < humanHand.size(); i++) {
+            showCardInSlot(playerCardViews.get(i), humanHand.get(i), viewTableSum);
+        }
+        showFirstNodes(hboxPlayerHand.getChildren(), playerCardViews, humanHand.size());
+    }
+
+    /**
+     * Makes a container show exactly the first nodes of a pool, in order.
+     * The children list is left untouched when it already matches.
+     *
+     * @param children The container's children
+     * @param pool     The pooled nodes
+     * @param count    Number of pooled nodes to show
+     */
+    private void showFirstNodes(ObservableList<Node> children, List<? extends Node> pool, int count) {
+        boolean matches = children.size() == count;
+        for (int i = 0; matches && i < count; i++) {
+            matches = children.get(i) == pool.get(i);
+        }
+        if (!matches) {
+            children.setAll(pool.subList(0, count));
+        }
+    }
 
-        for (Card card : hand) {
-            ImageView cardView = createCardView(card);
-            playerCardViews.add(cardView);
-            hboxPlayerHand.getChildren().add(cardView);
+    /**
+     * Shows a card in a pooled hand slot.
+     * The image is only swapped when the slot holds a different card.
+     *
+     * @param cardView The pooled view for the slot
+     * @param card     The card now in the slot
+     * @param tableSum The current table sum
+     */
+    private void showCardInSlot(ImageView cardView, Card card, int tableSum) {
+        if (!card.equals(cardView.getUserData())) {
+            handAtlas.show(cardView, card.getImageFileName());
+            cardView.setUserData(card);
+            cardView.setEffect(null);
+            cardView.setTranslateY(0);
         }
+
+        // Visual indicator if card cannot be played
+        cardView.setOpacity(viewRules.canBePlayed(card, tableSum) ? 1.0 : 0.5);
     }
 
     /**
-     * Creates an interactive card view for the human player.
+     * Creates a pooled, interactive card view for a hand slot.
+     * The handlers read the slot's current card, so they are installed once.
      *
-     * @param card The card to display
      * @return ImageView with event handlers
      */
-    private ImageView createCardView(Card card) {
-        ImageView cardView = new ImageView(imageLoader.getCardImage(card.getImageFileName()));
+    private ImageView createCardView() {
+        ImageView cardView = new ImageView();
         cardView.setFitWidth(85);  // Reducido de 100
         cardView.setFitHeight(119); // Reducido de 140
         cardView.setPreserveRatio(true);
@@ -357,16 +563,14 @@ public class GameController {
         DropShadow shadow = new DropShadow();
         shadow.setRadius(15);
 
-        boolean canPlay = card.canBePlayed(gameModel.getTableSum());
-
         cardView.setOnMouseEntered(e -> {
-            if (!isProcessingTurn && gameModel.getCurrentPlayer() instanceof HumanPlayer
-                    && !gameModel.getHumanPlayer().isEliminated()) {
+            if (humanInputEnabled) {
                 cardView.setEffect(shadow);
                 cardView.setTranslateY(-10);
 
                 // Show if card can be played
-                if (canPlay) {
+                Card card = (Card) cardView.getUserData();
+                if (viewRules.canBePlayed(card, viewTableSum)) {
                     shadow.setColor(Color.LIGHTGREEN);
                 } else {
                     shadow.setColor(Color.LIGHTCORAL);
@@ -380,363 +584,325 @@ public class GameController {
         });
 
         // Handle card click
-        cardView.setOnMouseClicked(e -> handleCardPlay(card));
-
-        // Visual indicator if card cannot be played
-        if (!canPlay) {
-            cardView.setOpacity(0.5);
-        }
+        cardView.setOnMouseClicked(e -> handleCardPlay((Card) cardView.getUserData()));
 
         return cardView;
     }
+
     /**
      * Handles when the human player clicks a card to play it.
+     * Validated against the view state on the FX thread, then played on the engine thread.
      *
      * @param card The card to play
      */
     private void handleCardPlay(Card card) {
-        if (isProcessingTurn) {
-            log("Turn is being processed, ignoring click");
-            return;
-        }
-
-        if (!(gameModel.getCurrentPlayer() instanceof HumanPlayer)) {
-            Alert.showWarning("Not Your Turn", "Wait", "It's not your turn!");
+        if (eliminatedSeats[HUMAN_SEAT]) {
+            Alert.showWarning("Eliminated", "Cannot Play", "You have been eliminated from the game!");
             return;
         }
 
-        if (gameModel.getHumanPlayer().isEliminated()) {
-            Alert.showWarning("Eliminated", "Cannot Play", "You have been eliminated from the game!");
+        if (!humanInputEnabled) {
+            LOG.debug("Not waiting for a human move, ignoring click");
             return;
         }
 
-        if (!card.canBePlayed(gameModel.getTableSum())) {
+        if (!viewRules.canBePlayed(card, viewTableSum)) {
             Alert.showWarning(
                     "Invalid Card",
                     "Cannot Play This Card",
-                    "This card would make the sum exceed 50. Choose another card!"
+                    "This card would make the sum exceed " + viewRules.getTargetSum() + ". Choose another card!"
             );
             return;
         }
 
-        try {
-            isProcessingTurn = true;
-            int oldSum = gameModel.getTableSum();
-            int handSizeBefore = gameModel.getHumanPlayer().getHandSize();
-
-            log("=== HUMAN PLAYING CARD ===");
-            log("Hand size before: " + handSizeBefore);
-            log("Card to play: " + card);
-
-            // Jugar carta
-            gameModel.getHumanPlayer().playCard(card, gameModel.getTableSum());
-            gameModel.playCard(card);
-
-            int newSum = gameModel.getTableSum();
-            log("Human played: " + card + " | " + oldSum + " → " + newSum);
-            log("Hand size after play: " + gameModel.getHumanPlayer().getHandSize());
-
-            // Tomar carta del mazo
-            gameModel.drawCard();
-            int handSizeAfter = gameModel.getHumanPlayer().getHandSize();
-            log("Hand size after draw: " + handSizeAfter);
+        humanInputEnabled = false;
+        turnScheduler.schedule(0, () -> playHumanCard(card));
+    }
 
-            if (handSizeAfter != 4) {
-                log("⚠️ WARNING: Hand size is " + handSizeAfter + " instead of 4!");
+    /**
+     * Plays the human player's card, draws and advances the turn. Runs on the engine thread.
+     *
+     * @param card The card chosen in the view
+     */
+    private void playHumanCard(Card card) {
+        if (!awaitingHumanMove) {
+            LOG.warn("Human move arrived outside the human turn, ignoring");
+            return;
+        }
+        awaitingHumanMove = false;
+
+        int oldSum = gameModel.getTableSum();
+        LOG.debug("=== HUMAN PLAYING CARD === {}", card);
+
+        TurnOutcome outcome = gameModel.takeTurn(card);
+        switch (outcome.getType()) {
+            case PLAYED -> {
+                LOG.debug("Human played: {} | {} → {}", card, oldSum, outcome.getTableSum());
+                int handSizeAfter = outcome.getPlayer().getHandSize();
+                int handSize = gameModel.getRules().getHandSize();
+                if (handSizeAfter != handSize) {
+                    LOG.warn("Hand size is {} instead of {}!", handSizeAfter, handSize);
+                }
+                if (gameModel.isGameOver()) {
+                    handleGameOver();
+                } else {
+                    // Continuar al siguiente turno después de un delay
+                    turnScheduler.schedule(800, this::checkAndStartTurn);
+                }
             }
-
-            // Avanzar turno
-            gameModel.nextTurn();
-
-            updateUI();
-
-            if (gameModel.isGameOver()) {
-                handleGameOver();
-            } else {
-                // Continuar al siguiente turno después de un delay
-                Thread continueThread = new Thread(() -> {
-                    try {
-                        Thread.sleep(800);
-                        Platform.runLater(() -> {
-                            isProcessingTurn = false;
-                            checkAndStartTurn();
-                        });
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                });
-                continueThread.setDaemon(true);
-                continueThread.start();
+            case ELIMINATED -> {
+                humanEliminationChecked = true;
+                if (gameModel.isGameOver()) {
+                    handleGameOver();
+                } else {
+                    turnScheduler.schedule(2500, this::checkAndStartTurn);
+                }
             }
-
-        } catch (InvalidCardPlayException e) {
-            Alert.showWarning("Invalid Play", "Cannot play this card", e.getMessage());
-            isProcessingTurn = false;
-        } catch (EmptyDeckException e) {
-            Alert.showError("Error", "Deck Error", e.getMessage());
-            isProcessingTurn = false;
+            case INVALID_PLAY -> {
+                awaitingHumanMove = true;
+                eventBus.publish(GameEvent.awaitingMove(outcome.getPlayer(), gameModel.getTableSum()));
+                Platform.runLater(() -> Alert.showWarning("Invalid Play", "Cannot play this card",
+                        "This card would make the sum exceed " + viewRules.getTargetSum() + ". Choose another card!"));
+            }
+            case DECK_EXHAUSTED -> Platform.runLater(() ->
+                    Alert.showError("Error", "Deck Error", "Cannot replenish deck"));
         }
     }
     /**
-     * Starts a machine player's turn in a separate thread.
+     * Starts a machine player's turn: the player searches in the background
+     * during its thinking time and the card is collected when the time is up.
      */
     private void startMachineTurn() {
-        isProcessingTurn = true;
+        Platform.runLater(frameMonitor::start);
 
-        machinePlayerThread = new Thread(() -> {
-            try {
-                Random random = new Random();
-                Thread.sleep(2000 + random.nextInt(2000));
-
-                Platform.runLater(() -> processMachineTurn());
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
-        machinePlayerThread.setDaemon(true);
-        machinePlayerThread.start();
+        long thinkingMillis = 2000 + random.nextInt(2000);
+        Player currentPlayer = gameModel.getCurrentPlayer();
+        int tableSum = gameModel.getTableSum();
+        if (currentPlayer instanceof MachinePlayer machine && currentPlayer.hasValidMove(tableSum)) {
+            pendingMove.set(machine.startChoosing(tableSum, System.nanoTime() + thinkingMillis * 1_000_000L));
+        }
+        turnScheduler.schedule(thinkingMillis, this::processMachineTurn);
     }
 
     /**
      * Processes a machine player's turn.
+     * Runs on the engine thread; every delay is handed to the turn scheduler.
      */
     private void processMachineTurn() {
-        log("=== PROCESS MACHINE TURN CALLED ===");
-        log("isProcessingTurn: " + isProcessingTurn);
-        log("gameModel.isGameOver(): " + gameModel.isGameOver());
+        LOG.debug("=== PROCESS MACHINE TURN CALLED === game over: {}", gameModel.isGameOver());
+        PendingMove move = pendingMove.take();
+        if (move != null) {
+            // El tiempo de espera ya pasó: detener los árboles que aún no vieron el plazo
+            move.cancel();
+        }
 
         if (gameModel.isGameOver()) {
-            log("Game is over, calling handleGameOver");
+            LOG.debug("Game is over, calling handleGameOver");
+            endMachineTurn();
             handleGameOver();
             return;
         }
 
         Player currentPlayer = gameModel.getCurrentPlayer();
-        log("Machine turn: " + currentPlayer.getName());
-        log("Current player eliminated: " + currentPlayer.isEliminated());
-        log("Current player hand size: " + currentPlayer.getHandSize());
+        LOG.debug("Machine turn: {} (eliminated: {}, hand size: {})",
+                currentPlayer, currentPlayer.isEliminated(), currentPlayer.getHandSize());
 
         if (!(currentPlayer instanceof MachinePlayer)) {
-            log("ERROR: Expected machine player but got: " + currentPlayer.getClass().getName());
-            isProcessingTurn = false;
+            LOG.warn("Expected machine player but got: {}", currentPlayer.getClass().getName());
+            endMachineTurn();
             return;
         }
 
-        try {
-            if (!currentPlayer.hasValidMove(gameModel.getTableSum())) {
-                log("Machine has no valid moves - eliminating");
-
-                String playerName = currentPlayer.getName();
-
-                // Eliminar jugador
-                gameModel.eliminateCurrentPlayer();
-
-                // Avanzar al siguiente turno DESPUÉS de eliminar
-                if (!gameModel.isGameOver()) {
-                    gameModel.nextTurn();
-                }
+        if (!currentPlayer.hasValidMove(gameModel.getTableSum())) {
+            LOG.debug("Machine has no valid moves - eliminating");
+            eliminateMachinePlayer();
+            return;
+        }
 
-                Platform.runLater(() -> updateUI());
-
-                // Mostrar alerta
-                Platform.runLater(() -> {
-                    Alert.showInfo(
-                            "Player Eliminated",
-                            playerName + " Eliminated",
-                            playerName + " has no valid moves and is eliminated!"
-                    );
-                });
-
-                Thread.sleep(1500);
-
-                // Continuar con el siguiente jugador
-                if (!gameModel.isGameOver()) {
-                    Platform.runLater(() -> {
-                        isProcessingTurn = false;
-                        checkAndStartTurn();
-                    });
-                } else {
-                    Platform.runLater(() -> handleGameOver());
-                }
-                return;
+        try {
+            // Recoger la mejor carta encontrada durante la espera y jugarla
+            Card selectedCard = move != null ? move.await()
+                    : currentPlayer.chooseCard(gameModel.getTableSum());
+            if (selectedCard == null) {
+                throw new InvalidCardPlayException(currentPlayer.getName() + " has no valid moves");
             }
-
-            // Seleccionar y jugar carta
-            Card selectedCard = ((MachinePlayer) currentPlayer).selectCard(gameModel.getTableSum());
             int oldSum = gameModel.getTableSum();
             gameModel.playCard(selectedCard);
             int newSum = gameModel.getTableSum();
 
-            log("Machine played: " + selectedCard + " | " + oldSum + " → " + newSum);
-            Platform.runLater(() -> updateUI());
+            LOG.debug("Machine played: {} | {} → {}", selectedCard, oldSum, newSum);
 
             // Delay antes de tomar carta
-            Random random = new Random();
-            Thread.sleep(1000 + random.nextInt(1000));
+            turnScheduler.schedule(1000 + random.nextInt(1000), () -> finishMachineTurn(currentPlayer));
+
+        } catch (InvalidCardPlayException e) {
+            LOG.warn("Machine play failed: {}", e.getMessage());
+            eliminateMachinePlayer();
+        }
+    }
 
+    /**
+     * Completes a machine turn after its card was played: draws, advances the turn
+     * and continues with the next player.
+     *
+     * @param currentPlayer The machine player whose turn is ending
+     */
+    private void finishMachineTurn(Player currentPlayer) {
+        try {
             // Tomar carta del mazo
             gameModel.drawCard();
-            log("Machine drew a card. Hand size: " + currentPlayer.getHandSize());
+            LOG.debug("Machine drew a card. Hand size: {}", currentPlayer.getHandSize());
 
             // Avanzar turno
             gameModel.nextTurn();
-            Platform.runLater(() -> updateUI());
+            endMachineTurn();
 
             // Verificar game over o continuar
             if (gameModel.isGameOver()) {
-                Platform.runLater(() -> handleGameOver());
+                handleGameOver();
             } else {
-                Platform.runLater(() -> {
-                    isProcessingTurn = false;
-                    checkAndStartTurn();
-                });
+                checkAndStartTurn();
             }
 
-        } catch (InvalidCardPlayException e) {
-            log("Machine play failed: " + e.getMessage());
-            try {
-                String playerName = currentPlayer.getName();
-
-                gameModel.eliminateCurrentPlayer();
-
-                if (!gameModel.isGameOver()) {
-                    gameModel.nextTurn();
-                }
-
-                Platform.runLater(() -> updateUI());
+        } catch (EmptyDeckException e) {
+            LOG.warn("Empty deck - {}", e.getMessage());
+            endMachineTurn();
+            Platform.runLater(() -> Alert.showError("Error", "Deck Error", "Could not draw card: " + e.getMessage()));
+        }
+    }
 
-                Platform.runLater(() -> {
-                    Alert.showInfo(
-                            "Player Eliminated",
-                            playerName + " Eliminated",
-                            playerName + " could not make a valid play!"
-                    );
-                });
+    /**
+     * Eliminates the current machine player and continues with the next player
+     * after a pause. The view shows the elimination when the event arrives.
+     */
+    private void eliminateMachinePlayer() {
+        try {
+            gameModel.eliminateCurrentPlayer();
+        } catch (PlayerEliminatedException e) {
+            LOG.info("Machine eliminated: {}", e.getMessage());
+        }
 
-                Thread.sleep(1500);
+        // Avanzar al siguiente turno DESPUÉS de eliminar
+        if (!gameModel.isGameOver()) {
+            gameModel.nextTurn();
+        }
 
-                if (!gameModel.isGameOver()) {
-                    Platform.runLater(() -> {
-                        isProcessingTurn = false;
-                        checkAndStartTurn();
-                    });
-                } else {
-                    Platform.runLater(() -> handleGameOver());
-                }
-            } catch (PlayerEliminatedException pe) {
-                log("Machine eliminated: " + pe.getMessage());
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            }
-        } catch (PlayerEliminatedException e) {
-            log("Machine eliminated via exception: " + e.getMessage());
-            Platform.runLater(()->updateUI());
-            try {
-                Thread.sleep(1500);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
+        // Continuar con el siguiente jugador
+        turnScheduler.schedule(1500, () -> {
+            endMachineTurn();
+            if (!gameModel.isGameOver()) {
+                checkAndStartTurn();
+            } else {
+                handleGameOver();
             }
+        });
+    }
 
-            Platform.runLater(() -> {
-                if (!gameModel.isGameOver()) {
-                    isProcessingTurn = false;
-                    checkAndStartTurn();
-                } else {
-                    updateUI();
-                    handleGameOver();
-                }
-            });
-        } catch (EmptyDeckException e) {
-            log("ERROR: Empty deck - " + e.getMessage());
-            Alert.showError("Error", "Deck Error", "Could not draw card: " + e.getMessage());
-            isProcessingTurn = false;
-        } catch (Exception e) {
-            log("ERROR: " + e.getMessage());
-            e.printStackTrace();
-            isProcessingTurn = false;
-
-            Platform.runLater(() -> {
-                if (!gameModel.isGameOver()) {
-                    checkAndStartTurn();
+    /**
+     * Stops frame measurement for the machine turn and logs the result.
+     */
+    private void endMachineTurn() {
+        Platform.runLater(() -> {
+            if (frameMonitor.isRunning()) {
+                frameMonitor.stop();
+                if (LOG.isDebugEnabled()) {
+                    // El escritor formatea después: pasar el texto, no el monitor que se reinicia
+                    LOG.debug("Machine turn frames: {}", frameMonitor.toString());
                 }
-            });
-        }
+            }
+        });
     }
 
     /**
-     * Updates the display for all machine players.
+     * Updates the display of a machine seat from the view state.
+     *
+     * @param seat The seat index, 1 to 3
      */
-    private void updateMachinePlayersDisplay() {
-        List<Player> players = gameModel.getPlayers();
-
-        if (players.size() == 1) {
-            updateMachinePlayerDisplay(vboxMachine1,lblMachine1Status, players.get(0));
-        }
-        if (players.size() > 1) {
-            updateMachinePlayerDisplay(vboxMachine1, lblMachine1Status, players.get(1));
-        }
-        if (players.size() > 2) {
-            updateMachinePlayerDisplay(vboxMachine2, lblMachine2Status, players.get(2));
-        }
-        if (players.size() > 3) {
-            updateMachinePlayerDisplay(vboxMachine3, lblMachine3Status, players.get(3));
+    private void updateMachineSeat(int seat) {
+        switch (seat) {
+            case 1 -> updateMachinePlayerDisplay(vboxMachine1, lblMachine1Status, seat);
+            case 2 -> updateMachinePlayerDisplay(vboxMachine2, lblMachine2Status, seat);
+            case 3 -> updateMachinePlayerDisplay(vboxMachine3, lblMachine3Status, seat);
+            default -> { }
         }
     }
 
     /**
      * Updates display for a specific machine player.
      */
-    private void updateMachinePlayerDisplay(VBox vbox, Label statusLabel, Player player) {
-        if (player.isEliminated()) {
+    private void updateMachinePlayerDisplay(VBox vbox, Label statusLabel, int seat) {
+        if (eliminatedSeats[seat]) {
             statusLabel.setText("ELIMINATED");
             statusLabel.setStyle("-fx-text-fill: #ff4444; -fx-font-weight: bold;");
-
-            HBox cardBox = (HBox) vbox.getChildren().stream()
-                    .filter(node -> node instanceof HBox)
-                    .findFirst()
-                    .orElse(null);
-            if (cardBox != null) {
-                cardBox.getChildren().clear();
-            }
+            updateMachineCards(vbox, 0);
         } else {
-            statusLabel.setText("Cards: " + player.getHandSize());
+            statusLabel.setText("Cards: " + handSizes[seat]);
             statusLabel.setStyle("-fx-text-fill: #44ff44; -fx-font-weight: bold;");
-            updateMachineCards(vbox, player.getHandSize());
+            updateMachineCards(vbox, handSizes[seat]);
         }
     }
 
     /**
      * Updates the card backs display for a machine player.
+     * Card backs are pooled per player and shown or hidden; new views are
+     * only created when a hand grows beyond every size seen so far.
      */
     private void updateMachineCards(VBox vbox, int cardCount) {
-        HBox cardBox = (HBox) vbox.getChildren().stream()
-                .filter(node -> node instanceof HBox)
-                .findFirst()
-                .orElse(null);
+        HBox cardBox = machineCardBoxes.computeIfAbsent(vbox, this::findOrCreateCardBox);
+        List<Node> cardBacks = cardBox.getChildren();
 
-        if (cardBox == null) {
-            cardBox = new HBox(4);  // Reducido de 5
-            cardBox.setAlignment(Pos.CENTER);
-            vbox.getChildren().add(cardBox);
+        while (cardBacks.size() < cardCount) {
+            cardBacks.add(createCardBack());
         }
 
-        cardBox.getChildren().clear();
+        for (int i = 0; i < cardBacks.size(); i++) {
+            Node cardBack = cardBacks.get(i);
+            boolean shown = i < cardCount;
+            if (cardBack.isVisible() != shown) {
+                cardBack.setVisible(shown);
+                cardBack.setManaged(shown);
+            }
+        }
+    }
 
-        for (int i = 0; i < cardCount; i++) {
-            ImageView cardBack = new ImageView(imageLoader.getCardBackImage());
-            cardBack.setFitWidth(50);  // Reducido de 60
-            cardBack.setFitHeight(70); // Reducido de 84
-            cardBack.setPreserveRatio(true);
-            cardBox.getChildren().add(cardBack);
+    /**
+     * Finds the card back container of a machine player box, creating it if missing.
+     *
+     * @param vbox The machine player box
+     * @return The container for the card backs
+     */
+    private HBox findOrCreateCardBox(VBox vbox) {
+        for (Node node : vbox.getChildren()) {
+            if (node instanceof HBox) {
+                return (HBox) node;
+            }
         }
+        HBox cardBox = new HBox(4);  // Reducido de 5
+        cardBox.setAlignment(Pos.CENTER);
+        vbox.getChildren().add(cardBox);
+        return cardBox;
     }
 
     /**
-     * Updates game information labels.
+     * Creates a card back view for a machine player.
+     *
+     * @return The card back view
      */
-    private void updateGameInfo() {
-        Player currentPlayer = gameModel.getCurrentPlayer();
+    private ImageView createCardBack() {
+        ImageView cardBack = new ImageView();
+        backAtlas.show(cardBack, CardImageLoader.CARD_BACK);
+        cardBack.setFitWidth(50);  // Reducido de 60
+        cardBack.setFitHeight(70); // Reducido de 84
+        cardBack.setPreserveRatio(true);
+        return cardBack;
+    }
+
+    /**
+     * Updates the current player label.
+     *
+     * @param currentPlayer The player whose turn it is
+     */
+    private void updateCurrentPlayer(Player currentPlayer) {
         lblCurrentPlayer.setText(currentPlayer.getName() + "'s Turn");
 
         if (currentPlayer instanceof HumanPlayer) {
@@ -744,36 +910,65 @@ public class GameController {
         } else {
             lblCurrentPlayer.setStyle("-fx-text-fill: #FF9800; -fx-font-weight: bold;");
         }
+    }
 
-        lblDeckSize.setText(String.valueOf(gameModel.getDeckSize()));
+    /**
+     * Updates the deck size label.
+     *
+     * @param deckSize Cards left in the deck
+     */
+    private void updateDeckSize(int deckSize) {
+        lblDeckSize.setText(String.valueOf(deckSize));
+    }
+
+    /**
+     * Shows the elimination alert for a player once the pulse has been drawn.
+     *
+     * @param player The eliminated player
+     */
+    private void showEliminationAlert(Player player) {
+        if (player instanceof HumanPlayer) {
+            // Mostrar alerta SIN BLOQUEAR
+            Platform.runLater(() -> Alert.showWarning(
+                    "No Valid Moves!",
+                    "You're Eliminated!",
+                    "You have no cards that can be played without exceeding " + viewRules.getTargetSum()
+                            + ".\nYou are eliminated from the game!"
+            ));
+        } else {
+            String playerName = player.getName();
+            Platform.runLater(() -> Alert.showInfo(
+                    "Player Eliminated",
+                    playerName + " Eliminated",
+                    playerName + " has no valid moves and is eliminated!"
+            ));
+        }
     }
 
     /**
-     * Handles game over condition.
+     * Handles game over condition on the engine thread.
+     * The view announces the winner when the game over event arrives.
      */
     private void handleGameOver() {
-        log("=== HANDLE GAME OVER CALLED ===");
-        log("isProcessingTurn: " + isProcessingTurn);
-        log("gameModel.isGameOver(): " + gameModel.isGameOver());
+        LOG.debug("=== HANDLE GAME OVER CALLED === game over: {}", gameModel.isGameOver());
 
-        isProcessingTurn = true;
+        awaitingHumanMove = false;
         Player winner = gameModel.getWinner();
 
         if (winner == null) {
-            log("ERROR: Game over but no winner found!");
-            log("Active players: " + gameModel.getActivePlayers().size());
-            for (Player p : gameModel.getActivePlayers()) {
-                log("  - " + p.getName() + " (eliminated: " + p.isEliminated() + ")");
-            }
+            LOG.warn("Game over but no winner found! Active players: {}", gameModel.getActivePlayers());
             return;
         }
 
-        log("Winner: " + winner.getName());
-        log("Winner type: " + winner.getClass().getSimpleName());
-
-        // IMPORTANTE: Actualizar UI antes de mostrar alerta para reflejar último estado
-        updateUI();
+        LOG.info("Winner: {} ({})", winner, winner.getClass().getSimpleName());
+    }
 
+    /**
+     * Announces the winner and re-enables the buttons. Runs on the FX thread.
+     *
+     * @param winner The last player standing
+     */
+    private void showGameOver(Player winner) {
         String title;
         String header;
         String message;
@@ -788,20 +983,14 @@ public class GameController {
             message = winner.getName() + " is the winner!\n\nBetter luck next time! 🎮";
         }
 
-        // Mostrar alerta en un thread separado para no bloquear UI
-        Thread alertThread = new Thread(() -> {
-            Platform.runLater(() -> {
-                Alert.showInfo(title, header, message);
-            });
-        });
-        alertThread.setDaemon(true);
-        alertThread.start();
+        // Mostrar alerta después del pulso actual, con la vista ya actualizada
+        Platform.runLater(() -> Alert.showInfo(title, header, message));
 
         // Habilitar ambos botones al final del juego
         btnNewGame.setDisable(false);
         btnMainMenu.setDisable(false);
 
-        log("Buttons enabled - Game Over complete");
+        LOG.debug("Buttons enabled - Game Over complete");
     }
     /**
      * Handles new game button click.
@@ -842,20 +1031,14 @@ public class GameController {
     }
 
     /**
-     * Cleans up resources and stops threads.
+     * Cleans up resources: cancels pending turns, stops the engine thread and
+     * stops draining events.
      */
     public void cleanup() {
-        if (machinePlayerThread != null && machinePlayerThread.isAlive()) {
-            machinePlayerThread.interrupt();
-        }
-    }
-
-    /**
-     * Logs debug messages
-     */
-    private void log(String message) {
-        if (DEBUG) {
-            System.out.println("[GAME] " + message);
-        }
+        LOG.debug("Cleanup: cancelling {} pending tasks", turnScheduler.getPendingTaskCount());
+        turnScheduler.shutdown();
+        pendingMove.cancel();
+        eventPump.stop();
+        frameMonitor.stop();
     }
 }
\ No newline at end of file
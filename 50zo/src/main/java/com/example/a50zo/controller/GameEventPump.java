@@ -0,0 +1,86 @@
+package com.example.a50zo.controller;
+
+import com.example.a50zo.events.GameEvent;
+import com.example.a50zo.events.GameEventBus;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.Consumer;
+
+/**
+ * Drains a {@link GameEventBus} on the JavaFX Application Thread once per pulse.
+ * Each pulse hands up to {@link #MAX_EVENTS_PER_PULSE} events to the view and
+ * then lets it redraw once, so a burst of engine events costs one layout
+ * pass instead of one per event.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class GameEventPump {
+    /** Events applied per pulse; the rest wait for the next pulse. */
+    public static final int MAX_EVENTS_PER_PULSE = 256;
+
+    private final AnimationTimer timer;
+    private final Consumer<GameEvent> consumer;
+    private final Runnable onBatchApplied;
+    private GameEventBus bus;
+    private long drained;
+
+    /**
+     * Constructor for GameEventPump.
+     *
+     * @param consumer       Applies a single event to the view state
+     * @param onBatchApplied Redraws the view after a non-empty batch
+     */
+    public GameEventPump(Consumer<GameEvent> consumer, Runnable onBatchApplied) {
+        this.consumer = consumer;
+        this.onBatchApplied = onBatchApplied;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pump();
+            }
+        };
+    }
+
+    /**
+     * Starts draining a bus, replacing the previous one. Must be called on the FX thread.
+     * Events left on the previous bus are discarded with it.
+     *
+     * @param bus The bus of the current game
+     */
+    public void start(GameEventBus bus) {
+        this.bus = bus;
+        timer.start();
+    }
+
+    /**
+     * Stops draining. Must be called on the FX thread.
+     */
+    public void stop() {
+        timer.stop();
+        bus = null;
+    }
+
+    /**
+     * Applies one batch of events, if any are waiting.
+     */
+    private void pump() {
+        if (bus == null) {
+            return;
+        }
+        int count = bus.drain(consumer, MAX_EVENTS_PER_PULSE);
+        if (count > 0) {
+            drained += count;
+            onBatchApplied.run();
+        }
+    }
+
+    /**
+     * Gets the number of events applied so far.
+     *
+     * @return Number of drained events
+     */
+    public long getDrainedCount() {
+        return drained;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.a50zo.controller;
+
+import com.example.a50zo.model.PendingMove;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the machine search of the current turn so that any thread can stop it.
+ * The engine thread puts a search in when a machine turn starts and takes it
+ * out when the thinking time is up; starting a new game or closing the window
+ * cancels whatever is held. Replacing or clearing the held search cancels it,
+ * so a search is never dropped while it still keeps the pool busy.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class PendingMoveSlot {
+    private final AtomicReference<PendingMove> move = new AtomicReference<>();
+
+    /**
+     * Holds a new search, cancelling the one held before, if any.
+     *
+     * @param next The search of the current turn, or null to hold nothing
+     */
+    public void set(PendingMove next) {
+        PendingMove previous = move.getAndSet(next);
+        if (previous != null && previous != next) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * Takes the held search out of the slot without cancelling it;
+     * the caller becomes responsible for it.
+     *
+     * @return The search, or null if none was held
+     */
+    public PendingMove take() {
+        return move.getAndSet(null);
+    }
+
+    /**
+     * Stops the held search, if any, and leaves it in the slot so its card can still be collected.
+     * Safe to call from any thread.
+     */
+    public void cancel() {
+        PendingMove held = move.get();
+        if (held != null) {
+            held.cancel();
+        }
+    }
+
+    /**
+     * Cancels the held search, if any, and empties the slot.
+     */
+    public void clear() {
+        set(null);
+    }
+
+    /**
+     * Checks whether a search is held.
+     *
+     * @return true if the slot holds a search
+     */
+    public boolean isEmpty() {
+        return move.get() == null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.a50zo.controller;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequences the delayed steps of a game (machine thinking time, pauses
+ * between turns) on a single scheduler thread.
+ * Each delayed action is handed to the action executor when its delay expires.
+ * With {@code Runnable::run} the actions run on the scheduler thread itself,
+ * which then serves as the single engine thread that owns the game state.
+ * {@link #cancelAll()} drops every pending step, including steps already
+ * handed to the executor, which makes it safe to call on new game.
+ * Steps scheduled by an action that was already running when
+ * {@link #cancelAll()} was called are dropped as well.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class TurnScheduler {
+    private final ScheduledThreadPoolExecutor executor;
+    private final Executor fxExecutor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private volatile int generation;
+    private volatile Thread actionThread;
+    private int actionGeneration;
+
+    /**
+     * Constructor for TurnScheduler that runs actions with Platform.runLater.
+     */
+    public TurnScheduler() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Constructor for TurnScheduler.
+     *
+     * @param fxExecutor Executor that runs the actions, e.g. on the UI thread
+     */
+    public TurnScheduler(Executor fxExecutor) {
+        this.fxExecutor = fxExecutor;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "turn-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Runs an action on the action executor after a delay.
+     * Ignored once the scheduler has been shut down.
+     *
+     * @param delayMillis Delay in milliseconds
+     * @param action      Action to run
+     */
+    public void schedule(long delayMillis, Runnable action) {
+        // Una continuación pertenece a la misma generación que la acción que la programa
+        int scheduledGeneration = Thread.currentThread() == actionThread ? actionGeneration : generation;
+        pending.incrementAndGet();
+        try {
+            executor.schedule(() -> fxExecutor.execute(() -> runIfCurrent(scheduledGeneration, action)),
+                    delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs an action unless it was cancelled after being handed to the executor.
+     *
+     * @param scheduledGeneration Generation the action was scheduled in
+     * @param action              The action to run
+     */
+    private void runIfCurrent(int scheduledGeneration, Runnable action) {
+        pending.decrementAndGet();
+        if (scheduledGeneration != generation || executor.isShutdown()) {
+            cancelled.incrementAndGet();
+            return;
+        }
+        completed.incrementAndGet();
+        actionGeneration = scheduledGeneration;
+        actionThread = Thread.currentThread();
+        try {
+            action.run();
+        } finally {
+            actionThread = null;
+        }
+    }
+
+    /**
+     * Cancels every pending action. Actions scheduled afterwards run normally.
+     */
+    public void cancelAll() {
+        generation++;
+        for (Runnable task : executor.getQueue().toArray(new Runnable[0])) {
+            if (((Future<?>) task).cancel(false)) {
+                pending.decrementAndGet();
+                cancelled.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Cancels every pending action and stops the scheduler thread.
+     */
+    public void shutdown() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Gets the number of actions waiting for their delay or for the UI thread.
+     *
+     * @return Number of pending actions
+     */
+    public int getPendingTaskCount() {
+        return pending.get();
+    }
+
+    /**
+     * Gets the number of actions that have run.
+     *
+     * @return Number of completed actions
+     */
+    public long getCompletedTaskCount() {
+        return completed.get();
+    }
+
+    /**
+     * Gets the number of actions dropped by cancellation.
+     *
+     * @return Number of cancelled actions
+     */
+    public long getCancelledTaskCount() {
+        return cancelled.get();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.a50zo.events;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.Player;
+
+/**
+ * Immutable record of one change in a game, passed from the engine thread to the view.
+ * The event carries every value the view needs, so the consumer never reads
+ * the model, which keeps changing on the engine thread.
+ * Fields that do not apply to a type are null or -1.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class GameEvent {
+
+    /**
+     * Kinds of game event.
+     */
+    public enum Type {
+        /** Cards dealt and first card placed on the table. */
+        GAME_STARTED,
+        /** A card moved from a hand to the table. */
+        CARD_PLAYED,
+        /** A card moved from the deck to a hand. */
+        CARD_DRAWN,
+        /** The table pile was shuffled back into the deck. */
+        DECK_REPLENISHED,
+        /** A player was eliminated and their hand returned to the deck. */
+        PLAYER_ELIMINATED,
+        /** The turn passed to another player. */
+        TURN_CHANGED,
+        /** The engine is waiting for a human player to choose a card. */
+        AWAITING_MOVE,
+        /** Only one player remains. */
+        GAME_OVER
+    }
+
+    private final Type type;
+    private final Player player;
+    private final Card card;
+    private final int tableSum;
+    private final int deckSize;
+    private final int cardCount;
+
+    /**
+     * Constructor for GameEvent.
+     *
+     * @param type      The kind of event
+     * @param player    The player involved, or null
+     * @param card      The card involved, or null
+     * @param tableSum  The table sum after the event, or -1
+     * @param deckSize  The deck size after the event, or -1
+     * @param cardCount Number of cards moved in bulk, or -1
+     */
+    private GameEvent(Type type, Player player, Card card, int tableSum, int deckSize, int cardCount) {
+        this.type = type;
+        this.player = player;
+        this.card = card;
+        this.tableSum = tableSum;
+        this.deckSize = deckSize;
+        this.cardCount = cardCount;
+    }
+
+    /**
+     * Creates a game started event.
+     *
+     * @param topCard  The first table card
+     * @param tableSum The initial table sum
+     * @param deckSize Cards left in the deck
+     * @return The event
+     */
+    public static GameEvent gameStarted(Card topCard, int tableSum, int deckSize) {
+        return new GameEvent(Type.GAME_STARTED, null, topCard, tableSum, deckSize, -1);
+    }
+
+    /**
+     * Creates a card played event.
+     *
+     * @param player   The player who played
+     * @param card     The card played
+     * @param tableSum The table sum after the play
+     * @return The event
+     */
+    public static GameEvent cardPlayed(Player player, Card card, int tableSum) {
+        return new GameEvent(Type.CARD_PLAYED, player, card, tableSum, -1, -1);
+    }
+
+    /**
+     * Creates a card drawn event.
+     *
+     * @param player   The player who drew
+     * @param card     The card drawn
+     * @param deckSize Cards left in the deck
+     * @return The event
+     */
+    public static GameEvent cardDrawn(Player player, Card card, int deckSize) {
+        return new GameEvent(Type.CARD_DRAWN, player, card, -1, deckSize, -1);
+    }
+
+    /**
+     * Creates a deck replenished event.
+     *
+     * @param cardsReturned Table cards moved into the deck
+     * @param deckSize      Cards in the deck afterwards
+     * @return The event
+     */
+    public static GameEvent deckReplenished(int cardsReturned, int deckSize) {
+        return new GameEvent(Type.DECK_REPLENISHED, null, null, -1, deckSize, cardsReturned);
+    }
+
+    /**
+     * Creates a player eliminated event.
+     *
+     * @param player        The eliminated player
+     * @param cardsReturned Cards moved from the hand into the deck
+     * @param deckSize      Cards in the deck afterwards
+     * @return The event
+     */
+    public static GameEvent playerEliminated(Player player, int cardsReturned, int deckSize) {
+        return new GameEvent(Type.PLAYER_ELIMINATED, player, null, -1, deckSize, cardsReturned);
+    }
+
+    /**
+     * Creates a turn changed event.
+     *
+     * @param currentPlayer The player whose turn it is now
+     * @return The event
+     */
+    public static GameEvent turnChanged(Player currentPlayer) {
+        return new GameEvent(Type.TURN_CHANGED, currentPlayer, null, -1, -1, -1);
+    }
+
+    /**
+     * Creates an event telling the view that a human player may now choose a card.
+     *
+     * @param player   The human player to move
+     * @param tableSum The current table sum
+     * @return The event
+     */
+    public static GameEvent awaitingMove(Player player, int tableSum) {
+        return new GameEvent(Type.AWAITING_MOVE, player, null, tableSum, -1, -1);
+    }
+
+    /**
+     * Creates a game over event.
+     *
+     * @param winner The last player standing
+     * @return The event
+     */
+    public static GameEvent gameOver(Player winner) {
+        return new GameEvent(Type.GAME_OVER, winner, null, -1, -1, -1);
+    }
+
+    /**
+     * Gets the kind of event.
+     *
+     * @return The event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the player involved in the event.
+     *
+     * @return The player, or null
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the card involved in the event.
+     *
+     * @return The card, or null
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the table sum after the event.
+     *
+     * @return The table sum, or -1 if the event does not change it
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Gets the deck size after the event.
+     *
+     * @return The deck size, or -1 if the event does not change it
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards moved in bulk by the event.
+     *
+     * @return The card count, or -1 if the event moves no cards in bulk
+     */
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    /**
+     * Returns a string representation of the event.
+     *
+     * @return Event description
+     */
+    @Override
+    public String toString() {
+        return type + (player != null ? " " + player.getName() : "") + (card != null ? " " + card : "");
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.a50zo.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free queue of game events from one producer thread to one consumer thread.
+ * The engine thread publishes; the JavaFX Application Thread drains in
+ * batches once per pulse. Slots live in a power-of-two array indexed by
+ * ever-increasing sequence numbers; each side owns one counter and only
+ * reads the other's with acquire semantics, so no locks or CAS are needed.
+ * A full buffer makes the producer wait, which bounds how far the engine
+ * can run ahead of the view.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class GameEventBus {
+    /** Default number of slots, far more than a single turn produces. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final long FULL_WAIT_NANOS = 100_000L;
+
+    private final GameEvent[] slots;
+    private final int mask;
+    // Siguiente secuencia a escribir (solo la modifica el productor)
+    private final AtomicLong tail = new AtomicLong();
+    // Siguiente secuencia a leer (solo la modifica el consumidor)
+    private final AtomicLong head = new AtomicLong();
+    private long cachedHead;
+    private long fullWaits;
+
+    /**
+     * Constructor for GameEventBus with the default capacity.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for GameEventBus.
+     *
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new GameEvent[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an event if there is room. Producer thread only.
+     *
+     * @param event The event to add
+     * @return false if the buffer is full
+     */
+    public boolean offer(GameEvent event) {
+        long sequence = tail.getPlain();
+        if (sequence - cachedHead == slots.length) {
+            cachedHead = head.getAcquire();
+            if (sequence - cachedHead == slots.length) {
+                return false;
+            }
+        }
+        slots[(int) sequence & mask] = event;
+        tail.setRelease(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Adds an event, waiting while the buffer is full. Producer thread only.
+     * The event is dropped if the producer is interrupted while waiting,
+     * which happens when the engine is shut down.
+     *
+     * @param event The event to add
+     * @return false if the event was dropped
+     */
+    public boolean publish(GameEvent event) {
+        while (!offer(event)) {
+            fullWaits++;
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes up to {@code maxEvents} events in publication order and passes
+     * each one to the consumer. Consumer thread only.
+     *
+     * @param consumer  Receives the events
+     * @param maxEvents Maximum number of events to remove
+     * @return Number of events removed
+     */
+    public int drain(Consumer<GameEvent> consumer, int maxEvents) {
+        long start = head.getPlain();
+        long available = tail.getAcquire() - start;
+        int count = (int) Math.min(available, maxEvents);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (start + i) & mask;
+            GameEvent event = slots[index];
+            slots[index] = null;
+            consumer.accept(event);
+        }
+        if (count > 0) {
+            head.setRelease(start + count);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of events waiting to be drained.
+     * Exact only when both threads are idle.
+     *
+     * @return Number of queued events
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets how many times the producer had to wait for free slots.
+     * Read on the producer thread.
+     *
+     * @return Number of waits on a full buffer
+     */
+    public long getFullWaits() {
+        return fullWaits;
+    }
+}
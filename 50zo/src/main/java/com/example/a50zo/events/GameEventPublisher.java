@@ -0,0 +1,106 @@
+package com.example.a50zo.events;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModelListener;
+import com.example.a50zo.model.Player;
+
+/**
+ * Model listener that turns each change into an immutable {@link GameEvent}
+ * and publishes it on a {@link GameEventBus}.
+ * Register it on a model that is only used from one thread; that thread
+ * becomes the bus producer.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class GameEventPublisher implements GameModelListener {
+    private final GameEventBus bus;
+
+    /**
+     * Constructor for GameEventPublisher.
+     *
+     * @param bus The bus to publish on
+     */
+    public GameEventPublisher(GameEventBus bus) {
+        this.bus = bus;
+    }
+
+    /**
+     * Publishes the start of the game.
+     *
+     * @param topCard  The first table card
+     * @param tableSum The initial table sum
+     * @param deckSize Cards left in the deck after dealing
+     */
+    @Override
+    public void onGameStarted(Card topCard, int tableSum, int deckSize) {
+        bus.publish(GameEvent.gameStarted(topCard, tableSum, deckSize));
+    }
+
+    /**
+     * Publishes a card played to the table.
+     *
+     * @param player   The player who played the card
+     * @param card     The card now on top of the table
+     * @param tableSum The table sum after the play
+     */
+    @Override
+    public void onCardPlayed(Player player, Card card, int tableSum) {
+        bus.publish(GameEvent.cardPlayed(player, card, tableSum));
+    }
+
+    /**
+     * Publishes a card drawn from the deck.
+     *
+     * @param player   The player who drew
+     * @param card     The card drawn
+     * @param deckSize Cards left in the deck after the draw
+     */
+    @Override
+    public void onCardDrawn(Player player, Card card, int deckSize) {
+        bus.publish(GameEvent.cardDrawn(player, card, deckSize));
+    }
+
+    /**
+     * Publishes the table pile going back into the deck.
+     *
+     * @param cardsReturned Number of table cards moved into the deck
+     * @param deckSize      Cards in the deck after replenishing
+     */
+    @Override
+    public void onDeckReplenished(int cardsReturned, int deckSize) {
+        bus.publish(GameEvent.deckReplenished(cardsReturned, deckSize));
+    }
+
+    /**
+     * Publishes an elimination.
+     *
+     * @param player        The eliminated player
+     * @param cardsReturned Number of cards moved from the hand into the deck
+     * @param deckSize      Cards in the deck afterwards
+     */
+    @Override
+    public void onPlayerEliminated(Player player, int cardsReturned, int deckSize) {
+        bus.publish(GameEvent.playerEliminated(player, cardsReturned, deckSize));
+    }
+
+    /**
+     * Publishes a change of turn.
+     *
+     * @param currentPlayer The player whose turn it is now
+     */
+    @Override
+    public void onTurnChanged(Player currentPlayer) {
+        bus.publish(GameEvent.turnChanged(currentPlayer));
+    }
+
+    /**
+     * Publishes the end of the game.
+     *
+     * @param winner The last player standing
+     */
+    @Override
+    public void onGameOver(Player winner) {
+        bus.publish(GameEvent.gameOver(winner));
+    }
+}
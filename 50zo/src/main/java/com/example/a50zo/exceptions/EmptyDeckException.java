@@ -2,6 +2,9 @@ package com.example.a50zo.exceptions;
 /**
  * Checked exception thrown when attempting to draw from an empty deck.
  *
+ * No stack trace is recorded; running out of cards is a game condition,
+ * not a programming error.
+ *
  * @author Cincuentazo Team
  * @version 1.0
  */
@@ -13,7 +16,7 @@ public class EmptyDeckException extends Exception {
      * @param message Description of the error
      */
     public EmptyDeckException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -23,6 +26,6 @@ public class EmptyDeckException extends Exception {
      * @param cause The underlying cause
      */
     public EmptyDeckException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
\ No newline at end of file
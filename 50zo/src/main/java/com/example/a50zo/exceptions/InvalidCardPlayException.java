@@ -4,6 +4,8 @@ package com.example.a50zo.exceptions;
  * Checked exception thrown when an invalid card play is attempted.
  * This includes playing cards that would exceed the sum of 50.
  *
+ * Created without a stack trace, since invalid plays come from player input.
+ *
  * @author Cincuentazo Team
  * @version 1.0
  */
@@ -15,7 +17,7 @@ public class InvalidCardPlayException extends Exception {
      * @param message Description of the invalid play
      */
     public InvalidCardPlayException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -25,6 +27,6 @@ public class InvalidCardPlayException extends Exception {
      * @param cause The underlying cause
      */
     public InvalidCardPlayException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
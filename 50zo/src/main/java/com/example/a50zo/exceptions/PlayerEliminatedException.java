@@ -3,6 +3,8 @@ package com.example.a50zo.exceptions;
  * Unchecked exception thrown when a player is eliminated from the game.
  * This is a runtime exception as it represents a game state change.
  *
+ * The stack trace is not captured because eliminations happen in every game.
+ *
  * @author Cincuentazo Team
  * @version 1.0
  */
@@ -14,7 +16,7 @@ public class PlayerEliminatedException extends RuntimeException {
      * @param message Description of the elimination
      */
     public PlayerEliminatedException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -24,6 +26,6 @@ public class PlayerEliminatedException extends RuntimeException {
      * @param cause The underlying cause
      */
     public PlayerEliminatedException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -3,16 +3,41 @@ package com.example.a50zo.model;
 /**
  * Represents a playing card with a rank and suit.
  * Provides methods to get card values and image file names.
+ * <p>
+ * Every card has a primitive id in [0, 52) ({@code suit * 13 + rank}), and
+ * {@link #of(int)} returns one canonical immutable instance per id shared by
+ * all games. Cards compare by id, so a card built with the constructor is
+ * equal to the canonical one.
  *
  * @author Cincuentazo Team
  * @version 1.0
  */
-public class Card {
+public final class Card {
+    /** Number of distinct cards in a standard deck. */
+    public static final int COUNT = 52;
+
+    /** Bitmask with one bit set for every card id. */
+    public static final long ALL_CARDS_MASK = (1L << COUNT) - 1;
+
+    private static final int RANK_COUNT = Rank.values().length;
+    private static final Card[] CARDS = new Card[COUNT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                CARDS[card.id] = card;
+            }
+        }
+    }
+
     private final Rank rank;
     private final Suit suit;
+    private final byte id;
 
     /**
      * Constructor for Card.
+     * Prefer {@link #of(Rank, Suit)}, which returns the shared instance.
      *
      * @param rank The rank of the card
      * @param suit The suit of the card
@@ -20,6 +45,58 @@ public class Card {
     public Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.id = (byte) idOf(rank, suit);
+    }
+
+    /**
+     * Gets the canonical card for an id.
+     *
+     * @param id The card id, in [0, 52)
+     * @return The shared card instance
+     * @throws ArrayIndexOutOfBoundsException if the id is out of range
+     */
+    public static Card of(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * Gets the canonical card for a rank and suit.
+     *
+     * @param rank The rank of the card
+     * @param suit The suit of the card
+     * @return The shared card instance
+     */
+    public static Card of(Rank rank, Suit suit) {
+        return CARDS[idOf(rank, suit)];
+    }
+
+    /**
+     * Computes the id of a rank and suit.
+     *
+     * @param rank The rank of the card
+     * @param suit The suit of the card
+     * @return The card id, in [0, 52)
+     */
+    public static int idOf(Rank rank, Suit suit) {
+        return suit.ordinal() * RANK_COUNT + rank.ordinal();
+    }
+
+    /**
+     * Gets the bit representing this card in a card bitmask.
+     *
+     * @return A mask with only this card's bit set
+     */
+    public long mask() {
+        return 1L << id;
+    }
+
+    /**
+     * Gets the primitive id of this card.
+     *
+     * @return The card id, in [0, 52)
+     */
+    public int id() {
+        return id;
     }
 
     /**
@@ -43,31 +120,24 @@ public class Card {
     /**
      * Gets the best value to play this card given the current table sum.
      * For Aces, chooses between 1 and 10 based on which keeps the sum <= 50.
+     * Uses {@link RuleSet#standard()}; a game with other rules must ask its own RuleSet.
      *
      * @param currentSum The current sum on the table
      * @return The best value to use for this card
      */
     public int getBestValue(int currentSum) {
-        if (rank.hasMultipleValues()) {
-            // For Ace: choose value that keeps sum <= 50
-            if (currentSum + rank.getSecondaryValue() <= 50) {
-                return rank.getSecondaryValue();
-            } else {
-                return rank.getPrimaryValue();
-            }
-        }
-        return rank.getPrimaryValue();
+        return RuleSet.standard().getBestValue(this, currentSum);
     }
 
     /**
      * Checks if this card can be played given the current table sum.
+     * Uses {@link RuleSet#standard()}; a game with other rules must ask its own RuleSet.
      *
      * @param currentSum The current sum on the table
      * @return true if playing this card keeps the sum <= 50
      */
     public boolean canBePlayed(int currentSum) {
-        int newSum = currentSum + getBestValue(currentSum);
-        return newSum <= 50;
+        return RuleSet.standard().canBePlayed(this, currentSum);
     }
 
     /**
@@ -80,6 +150,27 @@ public class Card {
         return rank.getSymbol() + suit.getSymbol() + ".png";
     }
 
+    /**
+     * Checks if another object is the same card.
+     *
+     * @param o The object to compare
+     * @return true if the object is a card with the same rank and suit
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Card && ((Card) o).id == id);
+    }
+
+    /**
+     * Returns a hash code for the card.
+     *
+     * @return The card id
+     */
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
     /**
      * Returns a string representation of the card.
      *
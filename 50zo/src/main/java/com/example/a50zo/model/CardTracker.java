@@ -0,0 +1,223 @@
+package com.example.a50zo.model;
+
+/**
+ * Keeps count, rank by rank, of the cards one player has not seen.
+ * The tracker listens to the game and knows only what its player knows:
+ * its own hand, every card played to the table, the table going back into
+ * the deck when the deck runs out, and its own hand going back when it is
+ * eliminated. Every other card (the deck and the opponents' hands) is
+ * unseen. Each event updates a few counters, so queries never rescan the
+ * table pile or the deck.
+ * <p>
+ * Register the tracker before the cards are dealt. Like the model, it is
+ * not thread-safe; query it on the thread that plays the game.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class CardTracker implements GameModelListener {
+    private static final Rank[] RANKS = Rank.values();
+
+    private final Player observer;
+    private final RuleSet rules;
+    private final int[] unseen = new int[RANKS.length];
+    private final int[] onTable = new int[RANKS.length];
+    private final int[] inHand = new int[RANKS.length];
+    private int unseenTotal;
+    private int tableTotal;
+    private Rank topRank;
+
+    /**
+     * Constructor for CardTracker. Every card of the shoe starts unseen.
+     *
+     * @param observer The player whose knowledge is tracked
+     * @param rules    The rules of the game, for the number of decks and the card values
+     */
+    public CardTracker(Player observer, RuleSet rules) {
+        this.observer = observer;
+        this.rules = rules;
+        int perRank = Suit.values().length * rules.getDeckCount();
+        for (int r = 0; r < RANKS.length; r++) {
+            unseen[r] = perRank;
+        }
+        this.unseenTotal = perRank * RANKS.length;
+    }
+
+    /**
+     * Records the first table card.
+     *
+     * @param topCard  The first table card
+     * @param tableSum The initial table sum
+     * @param deckSize Cards left in the deck after dealing
+     */
+    @Override
+    public void onGameStarted(Card topCard, int tableSum, int deckSize) {
+        reveal(topCard.getRank());
+        putOnTable(topCard.getRank());
+    }
+
+    /**
+     * Records a card moving to the table, from the observer's hand or from an unseen hand.
+     *
+     * @param player   The player who played the card
+     * @param card     The card now on top of the table
+     * @param tableSum The table sum after the play
+     */
+    @Override
+    public void onCardPlayed(Player player, Card card, int tableSum) {
+        int r = card.getRank().ordinal();
+        if (player == observer) {
+            inHand[r]--;
+        } else {
+            reveal(card.getRank());
+        }
+        putOnTable(card.getRank());
+    }
+
+    /**
+     * Records a card the observer drew; other players' draws stay hidden.
+     *
+     * @param player   The player who drew
+     * @param card     The card drawn
+     * @param deckSize Cards left in the deck after the draw
+     */
+    @Override
+    public void onCardDrawn(Player player, Card card, int deckSize) {
+        if (player == observer) {
+            reveal(card.getRank());
+            inHand[card.getRank().ordinal()]++;
+        }
+    }
+
+    /**
+     * Returns the table, except its top card, to the unseen cards.
+     *
+     * @param cardsReturned Number of table cards moved into the deck
+     * @param deckSize      Cards in the deck after replenishing
+     */
+    @Override
+    public void onDeckReplenished(int cardsReturned, int deckSize) {
+        for (int r = 0; r < RANKS.length; r++) {
+            unseen[r] += onTable[r];
+            onTable[r] = 0;
+        }
+        unseenTotal += tableTotal;
+        tableTotal = 0;
+        reveal(topRank);
+        putOnTable(topRank);
+    }
+
+    /**
+     * Returns the observer's hand to the unseen cards when the observer is eliminated.
+     * An opponent's hand was unseen already.
+     *
+     * @param player        The eliminated player
+     * @param cardsReturned Number of cards moved from the hand into the deck
+     * @param deckSize      Cards in the deck afterwards
+     */
+    @Override
+    public void onPlayerEliminated(Player player, int cardsReturned, int deckSize) {
+        if (player == observer) {
+            for (int r = 0; r < RANKS.length; r++) {
+                unseen[r] += inHand[r];
+                unseenTotal += inHand[r];
+                inHand[r] = 0;
+            }
+        }
+    }
+
+    /**
+     * Moves one card of a rank out of the unseen cards.
+     *
+     * @param rank The rank
+     */
+    private void reveal(Rank rank) {
+        unseen[rank.ordinal()]--;
+        unseenTotal--;
+    }
+
+    /**
+     * Puts one card of a rank on top of the table.
+     *
+     * @param rank The rank
+     */
+    private void putOnTable(Rank rank) {
+        onTable[rank.ordinal()]++;
+        tableTotal++;
+        topRank = rank;
+    }
+
+    /**
+     * Gets the number of unseen cards of a rank, in the deck or in the opponents' hands.
+     *
+     * @param rank The rank
+     * @return Unseen count
+     */
+    public int getUnseenCount(Rank rank) {
+        return unseen[rank.ordinal()];
+    }
+
+    /**
+     * Gets the number of unseen cards.
+     *
+     * @return Unseen count over all ranks
+     */
+    public int getUnseenTotal() {
+        return unseenTotal;
+    }
+
+    /**
+     * Gets the number of cards of a rank on the table.
+     *
+     * @param rank The rank
+     * @return Table count
+     */
+    public int getTableCount(Rank rank) {
+        return onTable[rank.ordinal()];
+    }
+
+    /**
+     * Gets the chance that an unseen card, such as the next card drawn, has a rank.
+     *
+     * @param rank The rank
+     * @return Probability in [0, 1]
+     */
+    public double getRankProbability(Rank rank) {
+        return unseenTotal == 0 ? 0.0 : (double) unseen[rank.ordinal()] / unseenTotal;
+    }
+
+    /**
+     * Gets the number of unseen cards that could be played on a sum.
+     *
+     * @param sum The table sum
+     * @return Unseen playable count
+     */
+    public int getPlayableUnseenCount(int sum) {
+        long playable = rules.playableMask(sum);
+        int count = 0;
+        for (int r = 0; r < RANKS.length; r++) {
+            // Todas las cartas de un rango valen lo mismo: basta mirar un palo
+            if ((playable & Card.of(RANKS[r], Suit.HEARTS).mask()) != 0L) {
+                count += unseen[r];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the chance that a hand of unseen cards holds nothing playable on a sum,
+     * which is the chance an opponent facing that sum is eliminated.
+     *
+     * @param sum      The table sum
+     * @param handSize Number of cards in the hand
+     * @return Probability in [0, 1]
+     */
+    public double getStuckProbability(int sum, int handSize) {
+        int unplayable = unseenTotal - getPlayableUnseenCount(sum);
+        double probability = 1.0;
+        for (int i = 0; i < handSize && probability > 0.0; i++) {
+            probability *= Math.max(0, unplayable - i) / (double) Math.max(1, unseenTotal - i);
+        }
+        return probability;
+    }
+}
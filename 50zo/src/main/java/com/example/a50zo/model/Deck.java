@@ -2,45 +2,90 @@ package com.example.a50zo.model;
 
 import com.example.a50zo.exceptions.EmptyDeckException;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a deck of playing cards.
+ * Represents a deck of playing cards, or a shoe of several decks shuffled together.
  * Manages drawing cards, shuffling, and replenishing from the table.
+ * Cards are kept as one-byte card ids in a ring buffer with a top-of-deck
+ * cursor, so drawing from the top and adding to the bottom are O(1) and do
+ * not allocate, and a shoe of N decks costs N * 52 bytes rather than N * 52
+ * references. Drawn ids are turned back into the shared {@link Card} instances.
  *
  * @author Cincuentazo Team
  * @version 1.0
  */
 public class Deck {
-    private final List<Card> cards;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] cards;
+    private int top;
+    private int size;
+    private final RandomGenerator random;
 
     /**
-     * Constructor that creates a standard 52-card deck and shuffles it.
+     * Constructor that creates a standard 52-card deck and shuffles it
+     * with an unpredictably seeded generator.
      */
     public Deck() {
-        cards = new ArrayList<>();
-        initializeDeck();
+        this(GameRandom.create());
+    }
+
+    /**
+     * Constructor that creates a standard 52-card deck shuffled with the given source.
+     * Each deck owns its generator, so decks confined to different threads never
+     * contend on a shared random source.
+     *
+     * @param random The random source used for every shuffle of this deck
+     */
+    public Deck(RandomGenerator random) {
+        this(1, random);
+    }
+
+    /**
+     * Constructor that creates a shoe of several 52-card decks shuffled together.
+     *
+     * @param deckCount Number of decks in the shoe, at least 1
+     * @param random    The random source used for every shuffle of this deck
+     */
+    public Deck(int deckCount, RandomGenerator random) {
+        if (deckCount < 1) {
+            throw new IllegalArgumentException("Deck count must be at least 1: " + deckCount);
+        }
+        this.cards = new byte[INITIAL_CAPACITY];
+        this.top = 0;
+        this.size = 0;
+        this.random = random;
+        initializeDeck(deckCount);
         shuffle();
     }
 
     /**
-     * Initializes the deck with all 52 cards.
+     * Initializes the deck with all 52 cards of every deck in the shoe.
+     *
+     * @param deckCount Number of decks
      */
-    private void initializeDeck() {
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(new Card(rank, suit));
-            }
+    private void initializeDeck(int deckCount) {
+        ensureCapacity(deckCount * Card.COUNT);
+        for (int i = 0; i < deckCount * Card.COUNT; i++) {
+            cards[i] = (byte) (i % Card.COUNT);
         }
+        size = deckCount * Card.COUNT;
     }
 
     /**
      * Shuffles the deck randomly.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        int mask = cards.length - 1;
+        for (int i = size - 1; i > 0; i--) {
+            int a = (top + i) & mask;
+            int b = (top + random.nextInt(i + 1)) & mask;
+            byte swap = cards[a];
+            cards[a] = cards[b];
+            cards[b] = swap;
+        }
     }
 
     /**
@@ -50,10 +95,35 @@ public class Deck {
      * @throws EmptyDeckException if the deck is empty
      */
     public Card drawCard() throws EmptyDeckException {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             throw new EmptyDeckException("Cannot draw from an empty deck");
         }
-        return cards.remove(0);
+        return pollCard();
+    }
+
+    /**
+     * Draws a card from the top of the deck without throwing.
+     *
+     * @return The drawn card, or null if the deck is empty
+     */
+    Card pollCard() {
+        if (size == 0) {
+            return null;
+        }
+        int id = cards[top];
+        top = (top + 1) & (cards.length - 1);
+        size--;
+        return Card.of(id);
+    }
+
+    /**
+     * Gets the id of the card at a position without drawing it.
+     *
+     * @param index Position from the top, in [0, size())
+     * @return The card id
+     */
+    int peekId(int index) {
+        return cards[(top + index) & (cards.length - 1)];
     }
 
     /**
@@ -62,7 +132,9 @@ public class Deck {
      * @param card The card to add
      */
     public void addCard(Card card) {
-        cards.add(card);
+        ensureCapacity(size + 1);
+        cards[(top + size) & (cards.length - 1)] = (byte) card.id();
+        size++;
     }
 
     /**
@@ -71,7 +143,45 @@ public class Deck {
      * @param cardsToAdd List of cards to add
      */
     public void addCards(List<Card> cardsToAdd) {
-        cards.addAll(cardsToAdd);
+        addCards(cardsToAdd, cardsToAdd.size());
+    }
+
+    /**
+     * Adds the first cards of a list to the bottom of the deck without copying the list.
+     *
+     * @param source List holding the cards to add
+     * @param count  Number of cards to take from the start of the list
+     */
+    private void addCards(List<Card> source, int count) {
+        ensureCapacity(size + count);
+        int mask = cards.length - 1;
+        int bottom = top + size;
+        for (int i = 0; i < count; i++) {
+            cards[(bottom + i) & mask] = (byte) source.get(i).id();
+        }
+        size += count;
+    }
+
+    /**
+     * Grows the ring buffer to the next power of two able to hold the requested cards.
+     *
+     * @param required Number of cards the deck must be able to hold
+     */
+    private void ensureCapacity(int required) {
+        if (required <= cards.length) {
+            return;
+        }
+        int capacity = cards.length;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        byte[] grown = new byte[capacity];
+        int mask = cards.length - 1;
+        for (int i = 0; i < size; i++) {
+            grown[i] = cards[(top + i) & mask];
+        }
+        cards = grown;
+        top = 0;
     }
 
     /**
@@ -80,7 +190,7 @@ public class Deck {
      * @return Number of cards in the deck
      */
     public int size() {
-        return cards.size();
+        return size;
     }
 
     /**
@@ -89,7 +199,7 @@ public class Deck {
      * @return true if the deck has no cards
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -101,8 +211,7 @@ public class Deck {
     public void replenishFromTable(List<Card> tablePile) {
         if (tablePile.size() > 1) {
             // Add all cards except the last one (top card stays on table)
-            List<Card> cardsToAdd = new ArrayList<>(tablePile.subList(0, tablePile.size() - 1));
-            cards.addAll(cardsToAdd);
+            addCards(tablePile, tablePile.size() - 1);
             shuffle();
         }
     }
@@ -3,52 +3,164 @@ package com.example.a50zo.model;
 import com.example.a50zo.exceptions.EmptyDeckException;
 import com.example.a50zo.exceptions.InvalidCardPlayException;
 import com.example.a50zo.exceptions.PlayerEliminatedException;
+import com.example.a50zo.utils.GameLogger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Main game model that manages the game state, players, deck, and game logic.
  * Implements the core rules of Cincuentazo.
+ * Every state change is published to the registered {@link GameModelListener}s,
+ * so views can update just the part that changed instead of polling the getters.
+ * Active seats form a circular doubly linked list over seat indices, and the
+ * number of active players is kept as a counter, so advancing the turn,
+ * eliminating a player and detecting the game over are O(1) however many
+ * players sit at the table.
+ * The rules of the game (target sum, hand size, shoe and card values) come
+ * from a {@link RuleSet} fixed at creation.
  *
  * @author Cincuentazo Team
  * @version 1.0
  */
 public class GameModel {
+    private static final GameLogger LOG = GameLogger.getLogger("GameModel");
+    private final RuleSet rules;
     private final Deck deck;
     private final List<Player> players;
     private final List<Card> tablePile;
     private int currentPlayerIndex;
+    // Lista circular de asientos activos
+    private final int[] nextSeat;
+    private final int[] previousSeat;
+    private int activeCount;
     private int tableSum;
     private boolean gameOver;
     private Player winner;
+    private boolean loggingEnabled;
+    private final List<GameModelListener> listeners = new ArrayList<>();
 
     /**
      * Constructor for GameModel.
      *
-     * @param numberOfMachinePlayers Number of machine players (1-3)
+     * @param numberOfMachinePlayers Number of machine players, at least 1
      */
     public GameModel(int numberOfMachinePlayers) {
-        this.deck = new Deck();
-        this.players = new ArrayList<>();
+        this(createPlayers(numberOfMachinePlayers));
+    }
+
+    /**
+     * Constructor for a reproducible game: the same seed always deals the same cards.
+     *
+     * @param numberOfMachinePlayers Number of machine players, at least 1
+     * @param seed                   Seed of the deck shuffles
+     */
+    public GameModel(int numberOfMachinePlayers, long seed) {
+        this(createPlayers(numberOfMachinePlayers), GameRandom.create(seed));
+    }
+
+    /**
+     * Constructor for GameModel with an explicit seating order.
+     * The first player in the list takes the first turn. Used by the
+     * headless simulation engine to run games made only of machine players.
+     *
+     * @param players The players taking part in the game, in turn order
+     */
+    public GameModel(List<Player> players) {
+        this(players, GameRandom.create());
+    }
+
+    /**
+     * Constructor for GameModel with an explicit seating order and random source.
+     * The model is not thread-safe; giving each game its own generator lets
+     * independent games run confined to different threads.
+     * The standard rules are used with a shoe sized for the table, see
+     * {@link RuleSet#standardFor(int)}.
+     *
+     * @param players The players taking part in the game, in turn order
+     * @param random  The random source used to shuffle the deck
+     */
+    public GameModel(List<Player> players, RandomGenerator random) {
+        this(players, random, RuleSet.standardFor(players.size()));
+    }
+
+    /**
+     * Constructor for GameModel playing a variant of the rules.
+     *
+     * @param players The players taking part in the game, in turn order
+     * @param random  The random source used to shuffle the deck
+     * @param rules   The rules of the game
+     */
+    public GameModel(List<Player> players, RandomGenerator random, RuleSet rules) {
+        this.rules = rules;
+        this.deck = new Deck(rules.getDeckCount(), random);
+        this.players = new ArrayList<>(players);
         this.tablePile = new ArrayList<>();
         this.currentPlayerIndex = 0;
         this.tableSum = 0;
         this.gameOver = false;
-
-        initializePlayers(numberOfMachinePlayers);
+        this.loggingEnabled = true;
+
+        int seats = this.players.size();
+        this.nextSeat = new int[seats];
+        this.previousSeat = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            nextSeat[seat] = (seat + 1) % seats;
+            previousSeat[seat] = (seat + seats - 1) % seats;
+        }
+        this.activeCount = seats;
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = this.players.get(seat);
+            player.seatAt(this, seat);
+            if (player.isEliminated()) {
+                seatEliminated(seat);
+            }
+        }
     }
 
     /**
-     * Initializes all players (1 human + machine players).
+     * Creates the default seating: 1 human followed by the machine players.
      *
      * @param numberOfMachinePlayers Number of machine players to create
+     * @return The players in turn order
      */
-    private void initializePlayers(int numberOfMachinePlayers) {
+    private static List<Player> createPlayers(int numberOfMachinePlayers) {
+        List<Player> players = new ArrayList<>();
         players.add(new HumanPlayer("You"));
         for (int i = 1; i <= numberOfMachinePlayers; i++) {
             players.add(new MachinePlayer("Machine " + i));
         }
+        return players;
+    }
+
+    /**
+     * Enables or disables the game over trace for this model.
+     * The trace is written at DEBUG level, so it is only produced when the
+     * logger level allows it; batch simulations also mute it per model.
+     *
+     * @param loggingEnabled true to log the game over trace
+     */
+    public void setLoggingEnabled(boolean loggingEnabled) {
+        this.loggingEnabled = loggingEnabled;
+    }
+
+    /**
+     * Registers a listener for state changes.
+     *
+     * @param listener The listener to notify
+     */
+    public void addListener(GameModelListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener for state changes.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(GameModelListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -57,17 +169,25 @@ public class GameModel {
      * @throws EmptyDeckException if the deck runs out during setup
      */
     public void initializeGame() throws EmptyDeckException {
-        // Deal 4 cards to each player
-        for (int i = 0; i < 4; i++) {
+        // Deal the hand size to each player
+        for (int i = 0; i < rules.getHandSize(); i++) {
             for (Player player : players) {
-                player.addCardToHand(deck.drawCard());
+                Card card = deck.drawCard();
+                player.addCardToHand(card);
+                for (int j = 0; j < listeners.size(); j++) {
+                    listeners.get(j).onCardDrawn(player, card, deck.size());
+                }
             }
         }
 
         // Place one card on the table
         Card initialCard = deck.drawCard();
         tablePile.add(initialCard);
-        tableSum = initialCard.getBestValue(0);
+        tableSum = rules.getBestValue(initialCard, 0);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameStarted(initialCard, tableSum, deck.size());
+        }
     }
 
     /**
@@ -77,25 +197,51 @@ public class GameModel {
      * @throws InvalidCardPlayException if the card cannot be played
      */
     public void playCard(Card card) throws InvalidCardPlayException {
-        Player currentPlayer = getCurrentPlayer();
-
-        if (currentPlayer.isEliminated()) {
-            throw new InvalidCardPlayException("Eliminated players cannot play");
+        String error = validatePlay(getCurrentPlayer(), card);
+        if (error != null) {
+            throw new InvalidCardPlayException(error);
         }
+        placeOnTable(getCurrentPlayer(), card);
+    }
 
-        if (!card.canBePlayed(tableSum)) {
-            throw new InvalidCardPlayException("Playing this card would exceed 50");
+    /**
+     * Checks whether a player may play a card on the current sum.
+     *
+     * @param player The player attempting the play
+     * @param card   The card to play
+     * @return The reason the play is invalid, or null if it is allowed
+     */
+    private String validatePlay(Player player, Card card) {
+        if (player.isEliminated()) {
+            return "Eliminated players cannot play";
+        }
+        if (!rules.canBePlayed(card, tableSum)) {
+            return "Playing this card would exceed " + rules.getTargetSum();
         }
+        return null;
+    }
 
+    /**
+     * Moves a card from the player's hand to the table and updates the sum.
+     *
+     * @param player The player making the play
+     * @param card   The card to play
+     */
+    private void placeOnTable(Player player, Card card) {
         // Remover carta de la mano del jugador
-        currentPlayer.removeCardFromHand(card);
+        player.removeCardFromHand(card);
 
         // Agregar carta a la mesa
         tablePile.add(card);
 
         // Actualizar suma
-        tableSum += card.getBestValue(tableSum - card.getBestValue(tableSum));
+        tableSum += rules.getBestValue(card, tableSum);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onCardPlayed(player, card, tableSum);
+        }
     }
+
     /**
      * Current player draws a card from the deck.
      * Replenishes deck from table pile if necessary.
@@ -103,20 +249,93 @@ public class GameModel {
      * @throws EmptyDeckException if unable to draw a card
      */
     public void drawCard() throws EmptyDeckException {
+        if (drawForCurrentPlayer() == null) {
+            throw new EmptyDeckException("Cannot replenish deck");
+        }
+    }
+
+    /**
+     * Gives the current player the top card of the deck,
+     * replenishing the deck from the table pile if necessary.
+     *
+     * @return The drawn card, or null if the deck could not be replenished
+     */
+    private Card drawForCurrentPlayer() {
         if (deck.isEmpty()) {
             if (tablePile.size() > 1) {
                 deck.replenishFromTable(tablePile);
                 // Keep only the top card on the table
                 Card topCard = tablePile.get(tablePile.size() - 1);
+                int cardsReturned = tablePile.size() - 1;
                 tablePile.clear();
                 tablePile.add(topCard);
+
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onDeckReplenished(cardsReturned, deck.size());
+                }
             } else {
-                throw new EmptyDeckException("Cannot replenish deck");
+                return null;
+            }
+        }
+
+        Player player = getCurrentPlayer();
+        Card drawnCard = deck.pollCard();
+        player.addCardToHand(drawnCard);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onCardDrawn(player, drawnCard, deck.size());
+        }
+        return drawnCard;
+    }
+
+    /**
+     * Plays a full turn for the current player, letting the player choose the card.
+     * Machine players pick their card; human players choose through the GUI
+     * and must use {@link #takeTurn(Card)} instead.
+     *
+     * @return What happened during the turn
+     */
+    public TurnOutcome takeTurn() {
+        Player player = getCurrentPlayer();
+        return takeTurn(player.chooseCard(tableSum));
+    }
+
+    /**
+     * Plays a full turn for the current player without using exceptions for control flow.
+     * A player with no valid move is eliminated whatever card is passed.
+     * Otherwise the card is played, a replacement is drawn and the turn advances.
+     * An invalid play leaves the game unchanged.
+     *
+     * @param card The card to play, may be null when the player is expected to be stuck
+     * @return What happened during the turn
+     */
+    public TurnOutcome takeTurn(Card card) {
+        Player player = getCurrentPlayer();
+
+        if (gameOver || player.isEliminated()) {
+            return new TurnOutcome(TurnOutcome.Type.INVALID_PLAY, player, card, null, tableSum, gameOver);
+        }
+
+        if (eliminateIfStuck(player)) {
+            if (!gameOver) {
+                nextTurn();
             }
+            return new TurnOutcome(TurnOutcome.Type.ELIMINATED, player, null, null, tableSum, gameOver);
+        }
+
+        if (card == null || (player.getHandMask() & card.mask()) == 0L
+                || validatePlay(player, card) != null) {
+            return new TurnOutcome(TurnOutcome.Type.INVALID_PLAY, player, card, null, tableSum, false);
         }
 
-        Card drawnCard = deck.drawCard();
-        getCurrentPlayer().addCardToHand(drawnCard);
+        placeOnTable(player, card);
+        Card drawnCard = drawForCurrentPlayer();
+        if (drawnCard == null) {
+            return new TurnOutcome(TurnOutcome.Type.DECK_EXHAUSTED, player, card, null, tableSum, false);
+        }
+
+        nextTurn();
+        return new TurnOutcome(TurnOutcome.Type.PLAYED, player, card, drawnCard, tableSum, gameOver);
     }
 
     /**
@@ -124,20 +343,17 @@ public class GameModel {
      * Skips eliminated players and checks for game over condition.
      */
     public void nextTurn() {
-        int attempts = 0;
-        int maxAttempts = players.size();
-
-        do {
-            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-            attempts++;
+        int previousIndex = currentPlayerIndex;
+        currentPlayerIndex = nextSeat[previousIndex];
+        if (players.get(previousIndex).isEliminated()) {
+            unlinkSeat(previousIndex);
+        }
 
-            // Evitar bucle infinito
-            if (attempts > maxAttempts) {
-                checkGameOver();
-                return;
+        if (currentPlayerIndex != previousIndex) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onTurnChanged(getCurrentPlayer());
             }
-        } while (getCurrentPlayer().isEliminated() && getActivePlayers().size() > 1);
-
+        }
         checkGameOver();
     }
 
@@ -150,38 +366,89 @@ public class GameModel {
     public void eliminateCurrentPlayer() throws PlayerEliminatedException {
         Player player = getCurrentPlayer();
 
-        if (!player.hasValidMove(tableSum)) {
-            player.eliminate();
-            List<Card> cards = player.removeAllCards();
-            deck.addCards(cards);
+        if (eliminateIfStuck(player)) {
+            throw new PlayerEliminatedException(player.getName() + " has been eliminated!");
+        }
+    }
 
-            checkGameOver();
+    /**
+     * Eliminates a player who has no valid moves and returns their cards to the deck.
+     *
+     * @param player The player to check
+     * @return true if the player was eliminated
+     */
+    private boolean eliminateIfStuck(Player player) {
+        if (player.hasValidMove(tableSum)) {
+            return false;
+        }
+        player.eliminate();
+        List<Card> cards = player.removeAllCards();
+        deck.addCards(cards);
 
-            throw new PlayerEliminatedException(player.getName() + " has been eliminated!");
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onPlayerEliminated(player, cards.size(), deck.size());
         }
+
+        checkGameOver();
+        return true;
     }
+
+    /**
+     * Removes an eliminated seat from the turn order.
+     * The current seat stays linked until the turn leaves it, so the turn
+     * can still move on from it to the next active seat.
+     *
+     * @param seat The eliminated player's seat
+     */
+    void seatEliminated(int seat) {
+        activeCount--;
+        if (seat != currentPlayerIndex) {
+            unlinkSeat(seat);
+        }
+    }
+
+    /**
+     * Unlinks a seat from the circular list of active seats.
+     *
+     * @param seat The seat to unlink
+     */
+    private void unlinkSeat(int seat) {
+        int next = nextSeat[seat];
+        int previous = previousSeat[seat];
+        nextSeat[previous] = next;
+        previousSeat[next] = previous;
+    }
+
     /**
      * Checks if the game is over (only one player remains).
      */
     private void checkGameOver() {
-        List<Player> activePlayers = getActivePlayers();
-
-        System.out.println("[GameModel] Checking game over:");
-        System.out.println("  - Active players: " + activePlayers.size());
-        for (Player p : activePlayers) {
-            System.out.println("    * " + p.getName() + " (eliminated: " + p.isEliminated() + ")");
+        boolean trace = loggingEnabled && LOG.isDebugEnabled();
+        if (trace) {
+            LOG.debug("Checking game over, active players: {}", getActivePlayers());
         }
 
-        if (activePlayers.size() == 1) {
+        if (activeCount == 1) {
+            boolean alreadyOver = gameOver;
             gameOver = true;
-            winner = activePlayers.get(0);
-            System.out.println("  - GAME OVER! Winner: " + winner.getName());
-        } else {
-            System.out.println("  - Game continues");
+            // Si el asiento actual fue eliminado, sigue enlazado y el ganador es su siguiente
+            int winnerSeat = players.get(currentPlayerIndex).isEliminated()
+                    ? nextSeat[currentPlayerIndex] : currentPlayerIndex;
+            winner = players.get(winnerSeat);
+            if (trace) {
+                LOG.debug("GAME OVER! Winner: {}", winner);
+            }
+            for (int i = 0; !alreadyOver && i < listeners.size(); i++) {
+                listeners.get(i).onGameOver(winner);
+            }
+        } else if (trace) {
+            LOG.debug("Game continues");
         }
     }
+
     /**
      * Gets the list of active (non-eliminated) players.
+     * Builds a new list; use {@link #getActivePlayerCount()} when only the number is needed.
      *
      * @return List of active players
      */
@@ -191,6 +458,48 @@ public class GameModel {
                 .toList();
     }
 
+    /**
+     * Gets the number of active (non-eliminated) players.
+     *
+     * @return Number of active players
+     */
+    public int getActivePlayerCount() {
+        return activeCount;
+    }
+
+    /**
+     * Captures the game in a compact {@link GameState} for look-ahead search.
+     * The state sees every hand and the deck order; search players that must
+     * not know hidden cards reshuffle them in their copy.
+     * Only single-deck games with up to {@link GameState#MAX_PLAYERS} players can be captured.
+     *
+     * @return A new state equal to this game
+     */
+    public GameState snapshot() {
+        GameState state = new GameState(rules, players.size(), 2 * Card.COUNT, 64);
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            state.setPlayer(seat, player.getHandMask(), !player.isEliminated());
+        }
+        state.setTurn(currentPlayerIndex, tableSum);
+        for (int i = 0; i < deck.size(); i++) {
+            state.addToDeck(deck.peekId(i));
+        }
+        for (int i = 0; i < tablePile.size(); i++) {
+            state.addToPile(tablePile.get(i).id());
+        }
+        return state;
+    }
+
+    /**
+     * Gets the rules of this game.
+     *
+     * @return The rule set
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
     /**
      * Gets the current player.
      *
@@ -0,0 +1,78 @@
+package com.example.a50zo.model;
+
+/**
+ * Receives fine-grained change notifications from a {@link GameModel}.
+ * Callbacks run synchronously on the thread that changed the model, after
+ * the change has been applied, so listeners may read the model freely.
+ * Every method has an empty default; implement only what you display.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public interface GameModelListener {
+
+    /**
+     * Called once the cards have been dealt and the first card is on the table.
+     *
+     * @param topCard  The first table card
+     * @param tableSum The initial table sum
+     * @param deckSize Cards left in the deck after dealing
+     */
+    default void onGameStarted(Card topCard, int tableSum, int deckSize) {
+    }
+
+    /**
+     * Called when a card has been moved from a player's hand to the table.
+     *
+     * @param player   The player who played the card
+     * @param card     The card now on top of the table
+     * @param tableSum The table sum after the play
+     */
+    default void onCardPlayed(Player player, Card card, int tableSum) {
+    }
+
+    /**
+     * Called when a player has drawn a card from the deck, including the cards dealt at the start.
+     *
+     * @param player   The player who drew
+     * @param card     The card drawn
+     * @param deckSize Cards left in the deck after the draw
+     */
+    default void onCardDrawn(Player player, Card card, int deckSize) {
+    }
+
+    /**
+     * Called when the table pile, except its top card, has been shuffled back into the deck.
+     *
+     * @param cardsReturned Number of table cards moved into the deck
+     * @param deckSize      Cards in the deck after replenishing
+     */
+    default void onDeckReplenished(int cardsReturned, int deckSize) {
+    }
+
+    /**
+     * Called when a player has been eliminated and their hand returned to the deck.
+     *
+     * @param player        The eliminated player
+     * @param cardsReturned Number of cards moved from the hand into the deck
+     * @param deckSize      Cards in the deck afterwards
+     */
+    default void onPlayerEliminated(Player player, int cardsReturned, int deckSize) {
+    }
+
+    /**
+     * Called when the turn has passed to a different player.
+     *
+     * @param currentPlayer The player whose turn it is now
+     */
+    default void onTurnChanged(Player currentPlayer) {
+    }
+
+    /**
+     * Called once, when only one player remains.
+     *
+     * @param winner The last player standing
+     */
+    default void onGameOver(Player winner) {
+    }
+}
@@ -0,0 +1,510 @@
+package com.example.a50zo.model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compact, fully-known state of a game for look-ahead search.
+ * Hands are card-id bitmasks, the deck is an array of card ids read through a
+ * cursor, the table pile is an append-only array of ids, and the players
+ * still in the game are a bitmask, so a move touches a handful of primitives.
+ * {@link #apply(int)} records what it changed on an internal journal and
+ * {@link #undo(int)} restores it, both in O(1); {@link #copyFrom(GameState)}
+ * copies a state into an existing one without allocating.
+ * <p>
+ * A move is a card id, or {@link #ELIMINATE} when the current player has no
+ * legal card. The state follows the rules of {@link GameModel#takeTurn(Card)}
+ * with four differences. The deck order is known. When the deck runs out,
+ * the table pile (except its top card) is put back in the order it was
+ * played instead of being shuffled. When nothing can be drawn even then,
+ * {@link #apply(int)} keeps the played card and passes the turn, where the
+ * model returns {@code DECK_EXHAUSTED} and the turn does not advance. And an
+ * eliminated hand goes to the bottom of the deck in ascending card-id order,
+ * where the model keeps the order of the hand, so the two decks may differ
+ * after an elimination. Search code must not count on the model behaving
+ * like the state in those cases. Search players that must not see hidden
+ * cards reshuffle them first. Only single-deck games with up to 64 players
+ * can be represented, since a hand is a set of distinct card ids.
+ * States are not thread-safe; search threads work on their own copies.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class GameState {
+    /** Move of a player who has no legal card and is eliminated. */
+    public static final int ELIMINATE = Card.COUNT;
+    /** Maximum number of players a state can hold. */
+    public static final int MAX_PLAYERS = 64;
+
+    private static final int NO_CARD = 0xFF;
+    private static final int SUM_OFFSET = 1 << 15;
+
+    private final RuleSet rules;
+    private final int playerCount;
+    private final long[] hands;
+    private long alive;
+    private int currentPlayer;
+    private int tableSum;
+
+    // Mazo: cartas por robar en [deckCursor, deckEnd)
+    private byte[] deck;
+    private int deckCursor;
+    private int deckEnd;
+
+    // Mesa: cartas jugadas en orden; las de [pileFloor, pileSize) están sobre la mesa
+    private byte[] pile;
+    private int pileFloor;
+    private int pileSize;
+
+    // Diario de deshacer: dos longs por jugada
+    private long[] journal;
+    private int depth;
+
+    private final byte[] hidden = new byte[Card.COUNT];
+
+    /**
+     * Constructor for GameState.
+     *
+     * @param rules        The rules of the game
+     * @param playerCount  Number of seats
+     * @param deckCapacity Initial room for card ids in the deck and pile arrays
+     * @param journalPlies Initial room for undo records
+     */
+    GameState(RuleSet rules, int playerCount, int deckCapacity, int journalPlies) {
+        if (playerCount < 2 || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A state holds 2 to " + MAX_PLAYERS + " players: " + playerCount);
+        }
+        if (rules.getDeckCount() != 1) {
+            throw new IllegalArgumentException("A state holds single-deck games only");
+        }
+        this.rules = rules;
+        this.playerCount = playerCount;
+        this.hands = new long[playerCount];
+        this.deck = new byte[Math.max(Card.COUNT, deckCapacity)];
+        this.pile = new byte[Math.max(Card.COUNT, deckCapacity)];
+        this.journal = new long[2 * Math.max(16, journalPlies)];
+    }
+
+    /**
+     * Creates a state with the same capacity as this one, for use with {@link #copyFrom(GameState)}.
+     *
+     * @return A copy of this state
+     */
+    public GameState copy() {
+        GameState copy = new GameState(rules, playerCount, deck.length, journal.length / 2);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Overwrites this state with another one of the same game.
+     * Does not allocate unless the other state has outgrown this one's arrays.
+     *
+     * @param other The state to copy
+     */
+    public void copyFrom(GameState other) {
+        if (other.playerCount != playerCount) {
+            throw new IllegalArgumentException("States have different player counts");
+        }
+        System.arraycopy(other.hands, 0, hands, 0, playerCount);
+        alive = other.alive;
+        currentPlayer = other.currentPlayer;
+        tableSum = other.tableSum;
+
+        if (deck.length < other.deckEnd) {
+            deck = new byte[other.deck.length];
+        }
+        System.arraycopy(other.deck, 0, deck, 0, other.deckEnd);
+        deckCursor = other.deckCursor;
+        deckEnd = other.deckEnd;
+
+        if (pile.length < other.pileSize) {
+            pile = new byte[other.pile.length];
+        }
+        System.arraycopy(other.pile, 0, pile, 0, other.pileSize);
+        pileFloor = other.pileFloor;
+        pileSize = other.pileSize;
+
+        if (journal.length < 2 * other.depth) {
+            journal = new long[other.journal.length];
+        }
+        System.arraycopy(other.journal, 0, journal, 0, 2 * other.depth);
+        depth = other.depth;
+    }
+
+    /**
+     * Seats a player with a hand. Used while the state is being filled in.
+     *
+     * @param player  The seat
+     * @param hand    Bitmask of the cards in hand
+     * @param isAlive false if the player is already eliminated
+     */
+    void setPlayer(int player, long hand, boolean isAlive) {
+        hands[player] = hand;
+        if (isAlive) {
+            alive |= 1L << player;
+        } else {
+            alive &= ~(1L << player);
+        }
+    }
+
+    /**
+     * Sets whose turn it is and the table sum. Used while the state is being filled in.
+     *
+     * @param player The current seat
+     * @param sum    The table sum
+     */
+    void setTurn(int player, int sum) {
+        currentPlayer = player;
+        tableSum = sum;
+    }
+
+    /**
+     * Appends a card to the bottom of the deck.
+     *
+     * @param cardId The card id
+     */
+    void addToDeck(int cardId) {
+        if (deckEnd == deck.length) {
+            deck = Arrays.copyOf(deck, deck.length * 2);
+        }
+        deck[deckEnd++] = (byte) cardId;
+    }
+
+    /**
+     * Puts a card on top of the table pile.
+     *
+     * @param cardId The card id
+     */
+    void addToPile(int cardId) {
+        if (pileSize == pile.length) {
+            pile = Arrays.copyOf(pile, pile.length * 2);
+        }
+        pile[pileSize++] = (byte) cardId;
+    }
+
+    /**
+     * Gets the legal moves of the current player.
+     *
+     * @return Bitmask of the playable card ids in hand; 0 means the only move is {@link #ELIMINATE}
+     */
+    public long legalMoves() {
+        return hands[currentPlayer] & rules.playableMask(tableSum);
+    }
+
+    /**
+     * Plays a move for the current player: plays the card, draws a replacement
+     * and passes the turn, or eliminates the player and returns their hand to the deck.
+     * The move must be legal and the game must not be over.
+     *
+     * @param move A card id in {@link #legalMoves()}, or {@link #ELIMINATE} when there is none
+     */
+    public void apply(int move) {
+        int player = currentPlayer;
+        long eliminatedHand = 0L;
+        int drawn = NO_CARD;
+        int recycled = 0;
+        int previousSum = tableSum;
+
+        if (move == ELIMINATE) {
+            eliminatedHand = hands[player];
+            hands[player] = 0L;
+            alive &= ~(1L << player);
+            for (long cards = eliminatedHand; cards != 0L; cards &= cards - 1) {
+                addToDeck(Long.numberOfTrailingZeros(cards));
+            }
+        } else {
+            hands[player] &= ~(1L << move);
+            tableSum += rules.getBestValue(Card.of(move), tableSum);
+            addToPile(move);
+
+            if (deckCursor == deckEnd) {
+                recycled = recycleTable();
+            }
+            if (deckCursor < deckEnd) {
+                drawn = deck[deckCursor++];
+                hands[player] |= 1L << drawn;
+            }
+        }
+
+        if (Long.bitCount(alive) > 1) {
+            currentPlayer = nextAlive(player);
+        }
+
+        if (2 * depth + 1 >= journal.length) {
+            journal = Arrays.copyOf(journal, journal.length * 2);
+        }
+        journal[2 * depth] = move
+                | (long) player << 8
+                | (long) drawn << 16
+                | (long) (previousSum + SUM_OFFSET) << 24
+                | (long) recycled << 40;
+        journal[2 * depth + 1] = eliminatedHand;
+        depth++;
+    }
+
+    /**
+     * Takes back the last move applied.
+     *
+     * @param move The move being taken back, which must be the last one applied
+     */
+    public void undo(int move) {
+        depth--;
+        long record = journal[2 * depth];
+        if ((int) (record & 0xFF) != move) {
+            depth++;
+            throw new IllegalStateException("Move " + move + " is not the last move applied");
+        }
+        int player = (int) (record >>> 8) & 0xFF;
+        int drawn = (int) (record >>> 16) & 0xFF;
+        int previousSum = (int) ((record >>> 24) & 0xFFFF) - SUM_OFFSET;
+        int recycled = (int) (record >>> 40) & 0xFFFF;
+
+        currentPlayer = player;
+        if (move == ELIMINATE) {
+            long eliminatedHand = journal[2 * depth + 1];
+            deckEnd -= Long.bitCount(eliminatedHand);
+            hands[player] = eliminatedHand;
+            alive |= 1L << player;
+        } else {
+            if (drawn != NO_CARD) {
+                hands[player] &= ~(1L << drawn);
+                deckCursor--;
+            }
+            deckEnd -= recycled;
+            pileFloor -= recycled;
+            pileSize--;
+            tableSum = previousSum;
+            hands[player] |= 1L << move;
+        }
+    }
+
+    /**
+     * Puts the table pile, except its top card, at the bottom of the empty deck.
+     *
+     * @return Number of cards moved
+     */
+    private int recycleTable() {
+        int count = pileSize - 1 - pileFloor;
+        if (count <= 0) {
+            return 0;
+        }
+        while (deckEnd + count > deck.length) {
+            deck = Arrays.copyOf(deck, deck.length * 2);
+        }
+        System.arraycopy(pile, pileFloor, deck, deckEnd, count);
+        deckEnd += count;
+        pileFloor += count;
+        return count;
+    }
+
+    /**
+     * Finds the next player still in the game after a seat, wrapping around.
+     *
+     * @param player The seat to start after
+     * @return The next live seat
+     */
+    private int nextAlive(int player) {
+        long after = alive & (-2L << player);
+        return Long.numberOfTrailingZeros(after != 0L ? after : alive);
+    }
+
+    /**
+     * Reshuffles the cards a player cannot see: the other players' hands and the deck.
+     * Every hand keeps its size and the deck its length; only which hidden card
+     * is where changes. Search players call this on their own copy so that
+     * they do not use information the real player does not have.
+     * Call it before applying moves: moves applied earlier cannot be undone afterwards.
+     *
+     * @param perspective The seat whose own hand and view are kept
+     * @param random      The random source
+     */
+    public void determinize(int perspective, RandomGenerator random) {
+        int count = 0;
+        for (int player = 0; player < playerCount; player++) {
+            if (player != perspective) {
+                for (long cards = hands[player]; cards != 0L; cards &= cards - 1) {
+                    hidden[count++] = (byte) Long.numberOfTrailingZeros(cards);
+                }
+            }
+        }
+        for (int i = deckCursor; i < deckEnd; i++) {
+            hidden[count++] = deck[i];
+        }
+
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = hidden[i];
+            hidden[i] = hidden[j];
+            hidden[j] = swap;
+        }
+
+        int next = 0;
+        for (int player = 0; player < playerCount; player++) {
+            if (player != perspective && hands[player] != 0L) {
+                long hand = 0L;
+                for (int k = Long.bitCount(hands[player]); k > 0; k--) {
+                    hand |= 1L << hidden[next++];
+                }
+                hands[player] = hand;
+            }
+        }
+        for (int i = deckCursor; i < deckEnd; i++) {
+            deck[i] = hidden[next++];
+        }
+    }
+
+    /**
+     * Gets the number of seats.
+     *
+     * @return Number of players, including eliminated ones
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return The current seat
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the table sum.
+     *
+     * @return The current sum
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Gets the card on top of the table pile.
+     *
+     * @return The card id, or -1 if nothing has been played
+     */
+    public int getTopCard() {
+        return pileSize == 0 ? -1 : pile[pileSize - 1];
+    }
+
+    /**
+     * Gets a player's hand.
+     *
+     * @param player The seat
+     * @return Bitmask of the card ids in hand
+     */
+    public long getHand(int player) {
+        return hands[player];
+    }
+
+    /**
+     * Gets the players still in the game.
+     *
+     * @return Bitmask with bit {@code i} set when seat {@code i} is not eliminated
+     */
+    public long getAliveMask() {
+        return alive;
+    }
+
+    /**
+     * Checks if a player is still in the game.
+     *
+     * @param player The seat
+     * @return true if the player is not eliminated
+     */
+    public boolean isAlive(int player) {
+        return (alive & (1L << player)) != 0L;
+    }
+
+    /**
+     * Checks if only one player is left.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return Long.bitCount(alive) <= 1;
+    }
+
+    /**
+     * Gets the winner.
+     *
+     * @return The seat of the last player left, or -1 if the game is not over
+     */
+    public int getWinner() {
+        return Long.bitCount(alive) == 1 ? Long.numberOfTrailingZeros(alive) : -1;
+    }
+
+    /**
+     * Gets the number of cards left to draw.
+     *
+     * @return Deck size
+     */
+    public int getDeckSize() {
+        return deckEnd - deckCursor;
+    }
+
+    /**
+     * Gets the card id at a position of the deck.
+     *
+     * @param index Position from the top, in [0, {@link #getDeckSize()})
+     * @return The card id
+     */
+    public int getDeckCard(int index) {
+        return deck[deckCursor + index];
+    }
+
+    /**
+     * Replaces the card id at a position of the deck, for reshuffling hidden cards.
+     *
+     * @param index  Position from the top, in [0, {@link #getDeckSize()})
+     * @param cardId The new card id
+     */
+    public void setDeckCard(int index, int cardId) {
+        deck[deckCursor + index] = (byte) cardId;
+    }
+
+    /**
+     * Replaces a player's hand, for reshuffling hidden cards.
+     * The set of cards held by all players and the deck must stay the same.
+     *
+     * @param player The seat
+     * @param hand   Bitmask of the new hand
+     */
+    public void setHand(int player, long hand) {
+        hands[player] = hand;
+    }
+
+    /**
+     * Gets the set of cards on the table.
+     *
+     * @return Bitmask of the card ids in the table pile
+     */
+    public long getTableMask() {
+        long mask = 0L;
+        for (int i = pileFloor; i < pileSize; i++) {
+            mask |= 1L << pile[i];
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the number of moves applied and not yet undone.
+     *
+     * @return The journal depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the rules of the game.
+     *
+     * @return The rule set
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+}
@@ -48,8 +48,8 @@ public class HumanPlayer extends Player {
         if (!hand.contains(card)) {
             throw new InvalidCardPlayException("Card not in hand");
         }
-        if (!card.canBePlayed(currentSum)) {
-            throw new InvalidCardPlayException("Playing this card would exceed 50");
+        if (!getRules().canBePlayed(card, currentSum)) {
+            throw new InvalidCardPlayException("Playing this card would exceed " + getRules().getTargetSum());
         }
         // NO eliminar la carta aquí, se elimina en GameModel.playCard()
     }
@@ -1,9 +1,6 @@
 package com.example.a50zo.model;
 import com.example.a50zo.exceptions.InvalidCardPlayException;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Represents a machine (AI) player in the game.
  * Automatically selects cards based on strategy.
@@ -12,6 +9,8 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class MachinePlayer extends Player {
+    private final boolean tracksCards;
+    private CardTracker cardTracker;
 
     /**
      * Constructor for MachinePlayer.
@@ -19,13 +18,46 @@ public class MachinePlayer extends Player {
      * @param name The player's name
      */
     public MachinePlayer(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructor for machine players that may count cards.
+     *
+     * @param name        The player's name
+     * @param tracksCards true to follow the unseen cards with a {@link CardTracker} in every game
+     */
+    protected MachinePlayer(String name, boolean tracksCards) {
         super(name);
+        this.tracksCards = tracksCards;
+    }
+
+    /**
+     * Seats the player at a game and, if it counts cards, starts a tracker for that game.
+     *
+     * @param table The game
+     * @param seat  The player's index in the game's turn order
+     */
+    @Override
+    void seatAt(GameModel table, int seat) {
+        super.seatAt(table, seat);
+        if (tracksCards) {
+            cardTracker = new CardTracker(this, table.getRules());
+            table.addListener(cardTracker);
+        }
+    }
+
+    /**
+     * Gets what this player has seen of the current game.
+     *
+     * @return The tracker, or null if the player does not count cards or is not seated
+     */
+    protected CardTracker getCardTracker() {
+        return cardTracker;
     }
 
     /**
-     * Selects a card to play using AI strategy.
-     * Strategy: Play the card that keeps the sum as close to 50 as possible
-     * without exceeding it.
+     * Selects a card to play using AI strategy and removes it from the hand.
      *
      * @param currentSum The current sum on the table
      * @return The selected card
@@ -33,27 +65,58 @@ public class MachinePlayer extends Player {
      */
     @Override
     public Card selectCard(int currentSum) throws InvalidCardPlayException {
-        List<Card> validCards = hand.stream()
-                .filter(card -> card.canBePlayed(currentSum))
-                .collect(Collectors.toList());
+        Card bestCard = chooseCard(currentSum);
 
-        if (validCards.isEmpty()) {
+        if (bestCard == null) {
             throw new InvalidCardPlayException(name + " has no valid moves");
         }
 
+        removeCardFromHand(bestCard);
+        return bestCard;
+    }
+
+    /**
+     * Chooses a card using AI strategy without changing the hand.
+     * Strategy: Play the card that keeps the sum as close to the target as possible
+     * without exceeding it. Candidates are enumerated from the hand bitmask,
+     * so the choice does not allocate.
+     *
+     * @param currentSum The current sum on the table
+     * @return The chosen card, or null if no valid card can be played
+     */
+    @Override
+    public Card chooseCard(int currentSum) {
+        RuleSet rules = getRules();
+        long validCards = getPlayableMask(currentSum);
+
         // Strategy: Play the card that brings the sum closest to 50
-        Card bestCard = validCards.get(0);
-        int bestSum = currentSum + bestCard.getBestValue(currentSum);
+        Card bestCard = null;
+        int bestSum = Integer.MIN_VALUE;
 
-        for (Card card : validCards) {
-            int newSum = currentSum + card.getBestValue(currentSum);
-            if (newSum > bestSum && newSum <= 50) {
+        while (validCards != 0L) {
+            Card card = Card.of(Long.numberOfTrailingZeros(validCards));
+            validCards &= validCards - 1;
+            int newSum = currentSum + rules.getBestValue(card, currentSum);
+            if (newSum > bestSum) {
                 bestCard = card;
                 bestSum = newSum;
             }
         }
 
-        removeCardFromHand(bestCard);
         return bestCard;
     }
+
+    /**
+     * Starts choosing a card that is needed by a deadline, without changing the hand.
+     * Players that search use the time until the deadline in the background and
+     * return the best card found so far; this strategy is instant, so the
+     * returned move is already done.
+     *
+     * @param currentSum    The current sum on the table
+     * @param deadlineNanos {@link System#nanoTime()} by which the card is needed
+     * @return The move being chosen
+     */
+    public PendingMove startChoosing(int currentSum, long deadlineNanos) {
+        return PendingMove.completed(chooseCard(currentSum));
+    }
 }
\ No newline at end of file
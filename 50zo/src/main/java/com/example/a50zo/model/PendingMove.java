@@ -0,0 +1,61 @@
+package com.example.a50zo.model;
+
+/**
+ * A card choice that a machine player may still be working on.
+ * Returned by {@link MachinePlayer#startChoosing(int, long)}: the player keeps
+ * improving its choice in the background until the deadline it was given,
+ * and the caller collects the best card found so far with {@link #await()}.
+ * {@link #cancel()} may be called from any thread, for example when the game
+ * is abandoned, and makes the search stop as soon as possible.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public interface PendingMove {
+
+    /**
+     * Waits for the choice to be ready and returns it.
+     * Returns early, with the best card found so far, if the move was cancelled.
+     * Calling it again returns the same card.
+     *
+     * @return The chosen card, or null if no valid card can be played
+     */
+    Card await();
+
+    /**
+     * Asks the player to stop working on the choice. Safe to call from any thread,
+     * more than once, and after the choice is ready.
+     */
+    void cancel();
+
+    /**
+     * Checks whether the choice is ready, so that {@link #await()} will not block.
+     *
+     * @return true if the player has finished choosing
+     */
+    boolean isDone();
+
+    /**
+     * Wraps a card that was chosen straight away.
+     *
+     * @param card The chosen card, or null if none can be played
+     * @return A move that is already done
+     */
+    static PendingMove completed(Card card) {
+        return new PendingMove() {
+            @Override
+            public Card await() {
+                return card;
+            }
+
+            @Override
+            public void cancel() {
+            }
+
+            @Override
+            public boolean isDone() {
+                return true;
+            }
+        };
+    }
+}
@@ -2,11 +2,15 @@ package com.example.a50zo.model;
 import com.example.a50zo.exceptions.InvalidCardPlayException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Abstract class representing a player in the Cincuentazo game.
  * Contains common functionality for both human and machine players.
+ * Alongside the ordered hand list, the player keeps a bitmask of the card ids
+ * in hand, so legality checks are a single AND against {@link RuleSet#playableMask(int)}
+ * of the rules of the game the player is seated at.
  *
  * @author Cincuentazo Team
  * @version 1.0
@@ -14,7 +18,13 @@ import java.util.List;
 public abstract class Player {
     protected final String name;
     protected final List<Card> hand;
+    private final List<Card> handView;
+    protected long handMask;
     protected boolean isEliminated;
+    // Mesa y asiento actuales, para avisar al modelo de una eliminación
+    private GameModel table;
+    private int seat;
+    private RuleSet rules = RuleSet.standard();
 
     /**
      * Constructor for Player.
@@ -24,6 +34,8 @@ public abstract class Player {
     public Player(String name) {
         this.name = name;
         this.hand = new ArrayList<>();
+        this.handView = Collections.unmodifiableList(hand);
+        this.handMask = 0L;
         this.isEliminated = false;
     }
 
@@ -45,6 +57,17 @@ public abstract class Player {
         return new ArrayList<>(hand);
     }
 
+    /**
+     * Gets a read-only live view of the player's hand.
+     * Nothing is copied; the view reflects later plays and draws, so callers
+     * that keep it across turns should copy it themselves.
+     *
+     * @return Unmodifiable view of the cards in hand
+     */
+    public List<Card> getHandView() {
+        return handView;
+    }
+
     /**
      * Adds a card to the player's hand.
      *
@@ -52,6 +75,7 @@ public abstract class Player {
      */
     public void addCardToHand(Card card) {
         hand.add(card);
+        handMask |= card.mask();
     }
 
     /**
@@ -61,7 +85,31 @@ public abstract class Player {
      * @return true if the card was removed successfully
      */
     public boolean removeCardFromHand(Card card) {
-        return hand.remove(card);
+        boolean removed = hand.remove(card);
+        if (removed && !hand.contains(card)) {
+            handMask &= ~card.mask();
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the bitmask of the card ids in the player's hand.
+     *
+     * @return Bitmask with bit {@code i} set when {@code Card.of(i)} is in hand
+     */
+    public long getHandMask() {
+        return handMask;
+    }
+
+    /**
+     * Gets the cards in hand that can be played on the current sum.
+     * Enumerate them with {@link Long#numberOfTrailingZeros(long)} and {@link Card#of(int)}.
+     *
+     * @param currentSum The current sum on the table
+     * @return Bitmask of the playable card ids in hand
+     */
+    public long getPlayableMask(int currentSum) {
+        return handMask & rules.playableMask(currentSum);
     }
 
     /**
@@ -84,9 +132,56 @@ public abstract class Player {
 
     /**
      * Eliminates the player from the game.
+     * The game the player is seated at is told, so it can drop the seat from the turn order.
      */
     public void eliminate() {
+        if (isEliminated) {
+            return;
+        }
         this.isEliminated = true;
+        if (table != null) {
+            table.seatEliminated(seat);
+        }
+    }
+
+    /**
+     * Seats the player at a game. A player takes part in one game at a time;
+     * seating them again moves them to the new game.
+     *
+     * @param table The game
+     * @param seat  The player's index in the game's turn order
+     */
+    void seatAt(GameModel table, int seat) {
+        this.table = table;
+        this.seat = seat;
+        this.rules = table.getRules();
+    }
+
+    /**
+     * Gets the game the player is seated at, for players that look at the whole table.
+     *
+     * @return The game, or null if the player has not been seated
+     */
+    protected GameModel getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the player's index in the turn order of their game.
+     *
+     * @return The seat
+     */
+    protected int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the rules of the game the player is seated at.
+     *
+     * @return The rule set, standard until the player is seated
+     */
+    public RuleSet getRules() {
+        return rules;
     }
 
     /**
@@ -96,7 +191,7 @@ public abstract class Player {
      * @return true if the player can play at least one card
      */
     public boolean hasValidMove(int currentSum) {
-        return hand.stream().anyMatch(card -> card.canBePlayed(currentSum));
+        return getPlayableMask(currentSum) != 0L;
     }
 
     /**
@@ -108,9 +203,21 @@ public abstract class Player {
     public List<Card> removeAllCards() {
         List<Card> cards = new ArrayList<>(hand);
         hand.clear();
+        handMask = 0L;
         return cards;
     }
 
+    /**
+     * Chooses the card this player would play without changing the hand.
+     * Players whose choice comes from the GUI return null.
+     *
+     * @param currentSum The current sum on the table
+     * @return The chosen card, or null if there is no automatic choice
+     */
+    public Card chooseCard(int currentSum) {
+        return null;
+    }
+
     /**
      * Abstract method to select a card to play.
      * Implementation differs for human and machine players.
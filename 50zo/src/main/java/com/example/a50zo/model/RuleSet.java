@@ -0,0 +1,333 @@
+package com.example.a50zo.model;
+
+import java.util.Arrays;
+
+/**
+ * Rules of a game of Cincuentazo: target sum, hand size, number of decks in
+ * the shoe and the value of every rank.
+ * A rank may have two values (the Ace counts 1 or 10 in the standard rules);
+ * the higher one is used whenever it keeps the sum at or below the target.
+ * When the rule set is built, the best value and playability of every rank
+ * for every table sum are compiled into lookup tables, so rule checks during
+ * play are one array load whatever the variant.
+ * Rule sets are immutable and can be shared between games and threads.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class RuleSet {
+    /** Target sum of the standard rules. */
+    public static final int STANDARD_TARGET_SUM = 50;
+    /** Cards dealt to each player in the standard rules. */
+    public static final int STANDARD_HAND_SIZE = 4;
+
+    private static final int RANK_COUNT = Rank.values().length;
+    private static final RuleSet STANDARD = new Builder().build();
+
+    private final int targetSum;
+    private final int handSize;
+    private final int deckCount;
+    private final int[] lowValues;
+    private final int[] highValues;
+
+    /** Lowest table sum with its own table entry; every card is playable below it. */
+    private final int tableMinSum;
+    /** Highest table sum with its own table entry; no card is playable above it. */
+    private final int tableMaxSum;
+    // Valores por [rango][suma - tableMinSum]
+    private final byte[][] bestValues;
+    private final long[] playableMasks;
+
+    /**
+     * Constructor for RuleSet. Compiles the lookup tables.
+     *
+     * @param builder The builder holding the rules
+     */
+    private RuleSet(Builder builder) {
+        this.targetSum = builder.targetSum;
+        this.handSize = builder.handSize;
+        this.deckCount = builder.deckCount;
+        this.lowValues = builder.lowValues.clone();
+        this.highValues = builder.highValues.clone();
+
+        int maxValue = Integer.MIN_VALUE;
+        int minValue = Integer.MAX_VALUE;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            maxValue = Math.max(maxValue, highValues[rank]);
+            minValue = Math.min(minValue, lowValues[rank]);
+        }
+        // Por debajo de este rango todo cabe y por encima nada: los resultados no cambian
+        this.tableMinSum = targetSum - maxValue;
+        this.tableMaxSum = targetSum - minValue + 1;
+
+        int width = tableMaxSum - tableMinSum + 1;
+        this.bestValues = new byte[RANK_COUNT][width];
+        this.playableMasks = new long[width];
+        for (int i = 0; i < width; i++) {
+            int sum = tableMinSum + i;
+            long rankPlayable = 0L;
+            for (int rank = 0; rank < RANK_COUNT; rank++) {
+                int value = sum + highValues[rank] <= targetSum ? highValues[rank] : lowValues[rank];
+                bestValues[rank][i] = (byte) value;
+                if (sum + value <= targetSum) {
+                    rankPlayable |= 1L << rank;
+                }
+            }
+            long mask = 0L;
+            for (int id = 0; id < Card.COUNT; id++) {
+                if ((rankPlayable & (1L << Card.of(id).getRank().ordinal())) != 0L) {
+                    mask |= 1L << id;
+                }
+            }
+            playableMasks[i] = mask;
+        }
+    }
+
+    /**
+     * Gets the standard rules: target 50, four cards per hand, one deck, Ace worth 1 or 10.
+     *
+     * @return The shared standard rule set
+     */
+    public static RuleSet standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Gets the standard rules with a shoe large enough for a table.
+     * Decks are added until at least half of the shoe is left in the deck
+     * after the deal, so big tables do not replenish from the table pile
+     * every few turns. Up to six players this is the single standard deck.
+     *
+     * @param playerCount Number of players at the table
+     * @return The standard rules with enough decks
+     */
+    public static RuleSet standardFor(int playerCount) {
+        int dealt = playerCount * STANDARD_HAND_SIZE + 1;
+        int decks = Math.max(1, (2 * dealt + Card.COUNT - 1) / Card.COUNT);
+        return decks == 1 ? STANDARD : new Builder().deckCount(decks).build();
+    }
+
+    /**
+     * Creates a builder starting from the standard rules.
+     *
+     * @return A new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Maps a table sum to its column in the lookup tables.
+     *
+     * @param currentSum The current sum on the table
+     * @return The clamped table index
+     */
+    private int tableIndex(int currentSum) {
+        return Math.max(tableMinSum, Math.min(tableMaxSum, currentSum)) - tableMinSum;
+    }
+
+    /**
+     * Gets the best value to play a card on a table sum.
+     *
+     * @param card       The card
+     * @param currentSum The current sum on the table
+     * @return The higher value of the card's rank if it keeps the sum within the target, else the lower one
+     */
+    public int getBestValue(Card card, int currentSum) {
+        return bestValues[card.getRank().ordinal()][tableIndex(currentSum)];
+    }
+
+    /**
+     * Checks if a card can be played on a table sum.
+     *
+     * @param card       The card
+     * @param currentSum The current sum on the table
+     * @return true if playing the card keeps the sum at or below the target
+     */
+    public boolean canBePlayed(Card card, int currentSum) {
+        return (playableMask(currentSum) & card.mask()) != 0L;
+    }
+
+    /**
+     * Gets the set of cards that can be played on a table sum.
+     * Bit {@code i} is set when {@code canBePlayed(Card.of(i), currentSum)}.
+     *
+     * @param currentSum The current sum on the table
+     * @return Bitmask of playable card ids
+     */
+    public long playableMask(int currentSum) {
+        return playableMasks[tableIndex(currentSum)];
+    }
+
+    /**
+     * Gets the target sum the table must not exceed.
+     *
+     * @return The target sum
+     */
+    public int getTargetSum() {
+        return targetSum;
+    }
+
+    /**
+     * Gets the number of cards dealt to each player.
+     *
+     * @return The hand size
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Gets the number of 52-card decks in the shoe.
+     *
+     * @return The deck count
+     */
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    /**
+     * Gets the lower value of a rank.
+     *
+     * @param rank The rank
+     * @return The value used when the higher one does not fit
+     */
+    public int getLowValue(Rank rank) {
+        return lowValues[rank.ordinal()];
+    }
+
+    /**
+     * Gets the higher value of a rank.
+     *
+     * @param rank The rank
+     * @return The value used when it keeps the sum within the target
+     */
+    public int getHighValue(Rank rank) {
+        return highValues[rank.ordinal()];
+    }
+
+    /**
+     * Returns a string representation of the rules.
+     *
+     * @return The main settings and the rank values
+     */
+    @Override
+    public String toString() {
+        return "RuleSet{target=" + targetSum + ", hand=" + handSize + ", decks=" + deckCount
+                + ", low=" + Arrays.toString(lowValues) + ", high=" + Arrays.toString(highValues) + "}";
+    }
+
+    /**
+     * Builder for a RuleSet. Starts from the standard rules.
+     *
+     * @author Cincuentazo Team
+     * @version 1.0
+     */
+    public static final class Builder {
+        private int targetSum = STANDARD_TARGET_SUM;
+        private int handSize = STANDARD_HAND_SIZE;
+        private int deckCount = 1;
+        private final int[] lowValues = new int[RANK_COUNT];
+        private final int[] highValues = new int[RANK_COUNT];
+
+        /**
+         * Constructor for Builder, with the values of the {@link Rank} enum.
+         */
+        private Builder() {
+            for (Rank rank : Rank.values()) {
+                lowValues[rank.ordinal()] = Math.min(rank.getPrimaryValue(), rank.getSecondaryValue());
+                highValues[rank.ordinal()] = Math.max(rank.getPrimaryValue(), rank.getSecondaryValue());
+            }
+        }
+
+        /**
+         * Sets the target sum.
+         *
+         * @param targetSum The sum the table must not exceed, positive
+         * @return This builder
+         */
+        public Builder targetSum(int targetSum) {
+            if (targetSum <= 0) {
+                throw new IllegalArgumentException("Target sum must be positive: " + targetSum);
+            }
+            this.targetSum = targetSum;
+            return this;
+        }
+
+        /**
+         * Sets the number of cards dealt to each player.
+         *
+         * @param handSize The hand size, at least 1
+         * @return This builder
+         */
+        public Builder handSize(int handSize) {
+            if (handSize < 1) {
+                throw new IllegalArgumentException("Hand size must be at least 1: " + handSize);
+            }
+            this.handSize = handSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of 52-card decks in the shoe.
+         *
+         * @param deckCount The deck count, at least 1
+         * @return This builder
+         */
+        public Builder deckCount(int deckCount) {
+            if (deckCount < 1) {
+                throw new IllegalArgumentException("Deck count must be at least 1: " + deckCount);
+            }
+            this.deckCount = deckCount;
+            return this;
+        }
+
+        /**
+         * Gives a rank a single value.
+         *
+         * @param rank  The rank
+         * @param value The value, in [-128, 127]
+         * @return This builder
+         */
+        public Builder rankValue(Rank rank, int value) {
+            return rankValues(rank, value, value);
+        }
+
+        /**
+         * Gives a rank two values; the higher one is used when it fits under the target.
+         *
+         * @param rank The rank
+         * @param low  The lower value, in [-128, 127]
+         * @param high The higher value, in [low, 127]
+         * @return This builder
+         */
+        public Builder rankValues(Rank rank, int low, int high) {
+            if (low > high || low < Byte.MIN_VALUE || high > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid values for " + rank + ": " + low + ", " + high);
+            }
+            lowValues[rank.ordinal()] = low;
+            highValues[rank.ordinal()] = high;
+            return this;
+        }
+
+        /**
+         * Sets the Ace options. Equal values give the Ace a single value.
+         *
+         * @param low  The Ace's lower value
+         * @param high The Ace's higher value
+         * @return This builder
+         */
+        public Builder aceValues(int low, int high) {
+            return rankValues(Rank.ACE, low, high);
+        }
+
+        /**
+         * Builds the rule set and compiles its lookup tables.
+         *
+         * @return The rule set
+         */
+        public RuleSet build() {
+            return new RuleSet(this);
+        }
+    }
+}
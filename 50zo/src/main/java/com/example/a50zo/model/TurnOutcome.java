@@ -0,0 +1,117 @@
+package com.example.a50zo.model;
+
+/**
+ * Immutable report of a single turn played through {@link GameModel#takeTurn(Card)}.
+ * Ordinary game events such as eliminations are reported here instead of
+ * being thrown as exceptions.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class TurnOutcome {
+
+    /**
+     * Kinds of turn results.
+     */
+    public enum Type {
+        /** The card was played, a replacement drawn and the turn advanced. */
+        PLAYED,
+        /** The player had no valid move and was eliminated. */
+        ELIMINATED,
+        /** The play was rejected; the game state did not change. */
+        INVALID_PLAY,
+        /** The card was played but no card could be drawn; the turn did not advance. */
+        DECK_EXHAUSTED
+    }
+
+    private final Type type;
+    private final Player player;
+    private final Card playedCard;
+    private final Card drawnCard;
+    private final int tableSum;
+    private final boolean gameOver;
+
+    /**
+     * Constructor for TurnOutcome.
+     *
+     * @param type       What happened during the turn
+     * @param player     The player whose turn it was
+     * @param playedCard The card played or attempted, may be null
+     * @param drawnCard  The card drawn after playing, may be null
+     * @param tableSum   The table sum after the turn
+     * @param gameOver   true if the turn ended the game
+     */
+    TurnOutcome(Type type, Player player, Card playedCard, Card drawnCard, int tableSum, boolean gameOver) {
+        this.type = type;
+        this.player = player;
+        this.playedCard = playedCard;
+        this.drawnCard = drawnCard;
+        this.tableSum = tableSum;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets what happened during the turn.
+     *
+     * @return The outcome type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the player whose turn it was.
+     *
+     * @return The acting player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the card that was played or attempted.
+     *
+     * @return The card, or null if no card was involved
+     */
+    public Card getPlayedCard() {
+        return playedCard;
+    }
+
+    /**
+     * Gets the card drawn to refill the hand.
+     *
+     * @return The drawn card, or null if nothing was drawn
+     */
+    public Card getDrawnCard() {
+        return drawnCard;
+    }
+
+    /**
+     * Gets the table sum after the turn.
+     *
+     * @return The table sum
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Checks if this turn ended the game.
+     *
+     * @return true if only one player remains
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns a string representation of the outcome.
+     *
+     * @return Short summary of the turn
+     */
+    @Override
+    public String toString() {
+        return "TurnOutcome[" + type + ", player=" + player + ", card=" + playedCard
+                + ", sum=" + tableSum + (gameOver ? ", game over" : "") + "]";
+    }
+}
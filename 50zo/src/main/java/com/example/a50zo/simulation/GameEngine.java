@@ -0,0 +1,161 @@
+package com.example.a50zo.simulation;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.TurnOutcome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless game engine that plays complete games of Cincuentazo
+ * without JavaFX and without any pacing delays.
+ * Every seat must be able to choose its own card, so only machine
+ * players are supported.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class GameEngine {
+    /** Default safety limit on the number of turns in a single game. */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private final int maxTurns;
+
+    /**
+     * Constructor for GameEngine using the default turn limit.
+     */
+    public GameEngine() {
+        this(DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructor for GameEngine.
+     *
+     * @param maxTurns Maximum turns before a game is abandoned without a winner
+     */
+    public GameEngine(int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("maxTurns must be positive");
+        }
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Creates and plays a game between machine players.
+     *
+     * @param numberOfPlayers Number of machine players at the table (at least 2)
+     * @return The result of the game
+     * @throws EmptyDeckException if the deck cannot be replenished
+     */
+    public GameResult playMachineGame(int numberOfPlayers) throws EmptyDeckException {
+        return play(new GameModel(createMachinePlayers(numberOfPlayers)));
+    }
+
+    /**
+     * Creates and plays a game between machine players using a given random source.
+     *
+     * @param numberOfPlayers Number of machine players at the table (at least 2)
+     * @param random          The random source used to shuffle the deck
+     * @return The result of the game
+     * @throws EmptyDeckException if the deck cannot be replenished
+     */
+    public GameResult playMachineGame(int numberOfPlayers, RandomGenerator random) throws EmptyDeckException {
+        return play(new GameModel(createMachinePlayers(numberOfPlayers), random));
+    }
+
+    /**
+     * Creates and plays a game between machine players under a variant of the rules.
+     *
+     * @param numberOfPlayers Number of machine players at the table (at least 2)
+     * @param random          The random source used to shuffle the deck
+     * @param rules           The rules of the game
+     * @return The result of the game
+     * @throws EmptyDeckException if the deck cannot be replenished
+     */
+    public GameResult playMachineGame(int numberOfPlayers, RandomGenerator random, RuleSet rules)
+            throws EmptyDeckException {
+        return play(new GameModel(createMachinePlayers(numberOfPlayers), random, rules));
+    }
+
+    /**
+     * Deals and plays a fresh game until a winner remains or the turn limit is hit.
+     *
+     * @param model A game model that has not been initialized yet
+     * @return The result of the game
+     * @throws EmptyDeckException if the deck cannot be replenished
+     */
+    public GameResult play(GameModel model) throws EmptyDeckException {
+        List<Player> seats = model.getPlayers();
+        int[] eliminationOrder = new int[seats.size()];
+        int eliminations = 0;
+        int turns = 0;
+
+        model.setLoggingEnabled(false);
+        model.initializeGame();
+
+        while (!model.isGameOver() && turns < maxTurns) {
+            TurnOutcome outcome = model.takeTurn();
+            turns++;
+
+            switch (outcome.getType()) {
+                case PLAYED:
+                    break;
+                case ELIMINATED:
+                    eliminationOrder[eliminations++] = seatOf(seats, outcome.getPlayer());
+                    break;
+                case DECK_EXHAUSTED:
+                    throw new EmptyDeckException("Cannot replenish deck");
+                default:
+                    throw new IllegalStateException(outcome.getPlayer().getName()
+                            + " chose an illegal card: " + outcome.getPlayedCard());
+            }
+        }
+
+        Player winner = model.getWinner();
+        return new GameResult(
+                winner == null ? -1 : seatOf(seats, winner),
+                winner == null ? null : winner.getName(),
+                turns,
+                Arrays.copyOf(eliminationOrder, eliminations)
+        );
+    }
+
+    /**
+     * Creates the seating for a machine-only game.
+     *
+     * @param numberOfPlayers Number of machine players (at least 2)
+     * @return The players in turn order
+     */
+    static List<Player> createMachinePlayers(int numberOfPlayers) {
+        if (numberOfPlayers < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players");
+        }
+        List<Player> players = new ArrayList<>(numberOfPlayers);
+        for (int i = 1; i <= numberOfPlayers; i++) {
+            players.add(new MachinePlayer("Machine " + i));
+        }
+        return players;
+    }
+
+    /**
+     * Finds the seat of a player by identity.
+     *
+     * @param seats  The players in turn order
+     * @param player The player to find
+     * @return The seat index
+     */
+    private static int seatOf(List<Player> seats, Player player) {
+        for (int i = 0; i < seats.size(); i++) {
+            if (seats.get(i) == player) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown player: " + player);
+    }
+}
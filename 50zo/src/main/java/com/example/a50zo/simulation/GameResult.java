@@ -0,0 +1,95 @@
+package com.example.a50zo.simulation;
+
+/**
+ * Immutable outcome of a single headless game.
+ * Players are identified by their seat index in turn order.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class GameResult {
+    private final int winnerSeat;
+    private final String winnerName;
+    private final int turns;
+    private final int[] eliminationOrder;
+
+    /**
+     * Constructor for GameResult.
+     *
+     * @param winnerSeat       Seat index of the winner, or -1 if the game did not finish
+     * @param winnerName       Name of the winner, or null if the game did not finish
+     * @param turns            Number of turns taken, eliminations included
+     * @param eliminationOrder Seat indices in the order the players were eliminated
+     */
+    public GameResult(int winnerSeat, String winnerName, int turns, int[] eliminationOrder) {
+        this.winnerSeat = winnerSeat;
+        this.winnerName = winnerName;
+        this.turns = turns;
+        this.eliminationOrder = eliminationOrder;
+    }
+
+    /**
+     * Gets the seat index of the winner.
+     *
+     * @return The winner's seat, or -1 if the game hit the turn limit
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Gets the name of the winner.
+     *
+     * @return The winner's name, or null if the game hit the turn limit
+     */
+    public String getWinnerName() {
+        return winnerName;
+    }
+
+    /**
+     * Gets the number of turns taken.
+     *
+     * @return Number of turns, eliminations included
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of players eliminated during the game.
+     *
+     * @return Number of eliminations
+     */
+    public int getEliminations() {
+        return eliminationOrder.length;
+    }
+
+    /**
+     * Gets the seats of the eliminated players, first eliminated first.
+     *
+     * @return Copy of the elimination order
+     */
+    public int[] getEliminationOrder() {
+        return eliminationOrder.clone();
+    }
+
+    /**
+     * Checks if the game ended with a winner.
+     *
+     * @return true if the game finished before the turn limit
+     */
+    public boolean isFinished() {
+        return winnerSeat >= 0;
+    }
+
+    /**
+     * Returns a string representation of the result.
+     *
+     * @return Short summary of the game
+     */
+    @Override
+    public String toString() {
+        return "GameResult[winner=" + winnerName + ", turns=" + turns
+                + ", eliminations=" + eliminationOrder.length + "]";
+    }
+}
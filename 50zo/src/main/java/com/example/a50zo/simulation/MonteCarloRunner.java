@@ -0,0 +1,217 @@
+package com.example.a50zo.simulation;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameRandom;
+
+import java.util.random.RandomGenerator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs batches of independent machine-only games in parallel on a ForkJoinPool.
+ * The batch is split recursively into ranges of games; every split derives a new
+ * stream from the root {@link GameRandom} generator, so each game gets its own
+ * seed and the aggregated results for a given seed do not depend on the number
+ * of threads.
+ * Each game is confined to the worker thread that plays it, and results are
+ * merged into LongAdder counters without locking.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class MonteCarloRunner {
+    /** Default number of games a worker plays before the range is no longer split. */
+    public static final int DEFAULT_BATCH_SIZE = 1_024;
+
+    private final int numberOfPlayers;
+    private final GameEngine engine;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * Constructor for MonteCarloRunner using the common pool.
+     *
+     * @param numberOfPlayers Number of machine players per game (at least 2)
+     */
+    public MonteCarloRunner(int numberOfPlayers) {
+        this(numberOfPlayers, new GameEngine(), ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for MonteCarloRunner.
+     *
+     * @param numberOfPlayers Number of machine players per game (at least 2)
+     * @param engine          The engine used to play each game, shared by all workers
+     * @param pool            The pool running the games
+     * @param batchSize       Games per leaf task
+     */
+    public MonteCarloRunner(int numberOfPlayers, GameEngine engine, ForkJoinPool pool, int batchSize) {
+        if (numberOfPlayers < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.numberOfPlayers = numberOfPlayers;
+        this.engine = engine;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Plays a batch of games in parallel and aggregates their results.
+     *
+     * @param games Number of games to play
+     * @param seed  Root seed; the same seed always yields the same summary counts
+     * @return Summary of the batch
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public SimulationSummary run(long games, long seed) throws EmptyDeckException {
+        Accumulators totals = new Accumulators(numberOfPlayers);
+        long start = System.nanoTime();
+
+        try {
+            pool.invoke(new GameRangeTask(0, games, GameRandom.create(seed), totals));
+        } catch (DeckFailure e) {
+            throw e.getCause();
+        }
+
+        long[] wins = new long[numberOfPlayers];
+        for (int seat = 0; seat < numberOfPlayers; seat++) {
+            wins[seat] = totals.wins[seat].sum();
+        }
+        return new SimulationSummary(games, totals.unfinished.sum(), totals.turns.sum(),
+                totals.eliminations.sum(), wins, System.nanoTime() - start);
+    }
+
+    /**
+     * Lock-free counters shared by all leaf tasks of a batch.
+     */
+    private static final class Accumulators {
+        private final LongAdder unfinished = new LongAdder();
+        private final LongAdder turns = new LongAdder();
+        private final LongAdder eliminations = new LongAdder();
+        private final LongAdder[] wins;
+
+        private Accumulators(int seats) {
+            wins = new LongAdder[seats];
+            for (int i = 0; i < seats; i++) {
+                wins[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Plays the games in [from, to), splitting the range while it exceeds the batch size.
+     */
+    private final class GameRangeTask extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private final RandomGenerator.SplittableGenerator random;
+        private final Accumulators totals;
+
+        private GameRangeTask(long from, long to, RandomGenerator.SplittableGenerator random,
+                              Accumulators totals) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.totals = totals;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                playRange();
+                return;
+            }
+            long mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, mid, random.split(), totals);
+            GameRangeTask right = new GameRangeTask(mid, to, random, totals);
+            invokeAll(left, right);
+        }
+
+        /**
+         * Plays this task's games sequentially, merging local tallies once at the end.
+         */
+        private void playRange() {
+            long[] wins = new long[numberOfPlayers];
+            long unfinished = 0;
+            long turns = 0;
+            long eliminations = 0;
+
+            try {
+                for (long i = from; i < to; i++) {
+                    GameResult result = engine.playMachineGame(numberOfPlayers, random.split());
+                    if (result.isFinished()) {
+                        wins[result.getWinnerSeat()]++;
+                    } else {
+                        unfinished++;
+                    }
+                    turns += result.getTurns();
+                    eliminations += result.getEliminations();
+                }
+            } catch (EmptyDeckException e) {
+                throw new DeckFailure(e);
+            }
+
+            for (int seat = 0; seat < numberOfPlayers; seat++) {
+                if (wins[seat] != 0) {
+                    totals.wins[seat].add(wins[seat]);
+                }
+            }
+            totals.unfinished.add(unfinished);
+            totals.turns.add(turns);
+            totals.eliminations.add(eliminations);
+        }
+    }
+
+    /**
+     * Carries a checked EmptyDeckException out of a fork-join task.
+     */
+    private static final class DeckFailure extends RuntimeException {
+        private DeckFailure(EmptyDeckException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized EmptyDeckException getCause() {
+            return (EmptyDeckException) super.getCause();
+        }
+    }
+
+    /**
+     * Command line entry point that measures scaling across thread counts.
+     * Usage: {@code MonteCarloRunner [games] [players] [maxThreads]}
+     *
+     * @param args Optional games (default 2,000,000), players (default 4)
+     *             and highest thread count (default: available processors)
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public static void main(String[] args) throws EmptyDeckException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000L;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        double baseline = 0;
+        // 1, 2, 4, ... y al final maxThreads una sola vez
+        for (int threads = 1; threads <= maxThreads;
+                threads = threads == maxThreads ? maxThreads + 1 : Math.min(threads * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                MonteCarloRunner runner = new MonteCarloRunner(players, new GameEngine(), pool, DEFAULT_BATCH_SIZE);
+                runner.run(games / 10, 1L);
+                SimulationSummary summary = runner.run(games, 42L);
+                double rate = summary.getGamesPerMinute();
+                if (threads == 1) {
+                    baseline = rate;
+                }
+                System.out.printf("threads=%2d  %,.0f games/minute  speedup=%.2fx%n",
+                        threads, rate, rate / baseline);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
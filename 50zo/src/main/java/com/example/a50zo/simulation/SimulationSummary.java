@@ -0,0 +1,137 @@
+package com.example.a50zo.simulation;
+
+/**
+ * Aggregated statistics for a batch of headless games.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class SimulationSummary {
+    private final long games;
+    private final long unfinishedGames;
+    private final long totalTurns;
+    private final long totalEliminations;
+    private final long[] winsBySeat;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor for SimulationSummary.
+     *
+     * @param games              Number of games played
+     * @param unfinishedGames    Number of games stopped by the turn limit
+     * @param totalTurns         Sum of turns over all games
+     * @param totalEliminations  Sum of eliminations over all games
+     * @param winsBySeat         Number of wins for each seat
+     * @param elapsedNanos       Wall-clock duration of the batch
+     */
+    public SimulationSummary(long games, long unfinishedGames, long totalTurns,
+                             long totalEliminations, long[] winsBySeat, long elapsedNanos) {
+        this.games = games;
+        this.unfinishedGames = unfinishedGames;
+        this.totalTurns = totalTurns;
+        this.totalEliminations = totalEliminations;
+        this.winsBySeat = winsBySeat;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return Number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that hit the turn limit without a winner.
+     *
+     * @return Number of unfinished games
+     */
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    /**
+     * Gets the total number of turns over all games.
+     *
+     * @return Total turns
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the total number of eliminations over all games.
+     *
+     * @return Total eliminations
+     */
+    public long getTotalEliminations() {
+        return totalEliminations;
+    }
+
+    /**
+     * Gets the number of wins for a seat.
+     *
+     * @param seat Seat index in turn order
+     * @return Number of games won from that seat
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return Number of seats
+     */
+    public int getSeats() {
+        return winsBySeat.length;
+    }
+
+    /**
+     * Gets the wall-clock duration of the batch.
+     *
+     * @return Elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     *
+     * @return Mean turns per game
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets the batch throughput.
+     *
+     * @return Games played per minute of wall-clock time
+     */
+    public double getGamesPerMinute() {
+        return elapsedNanos == 0 ? 0 : games * 60_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns a string representation of the summary.
+     *
+     * @return Multi-line report of the batch
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (unfinished: %d)%n", games, unfinishedGames));
+        sb.append(String.format("Average turns: %.2f%n", getAverageTurns()));
+        sb.append(String.format("Eliminations: %d%n", totalEliminations));
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            sb.append(String.format("  Seat %d wins: %d (%.2f%%)%n", seat, winsBySeat[seat],
+                    games == 0 ? 0 : 100.0 * winsBySeat[seat] / games));
+        }
+        sb.append(String.format("Throughput: %.0f games/minute", getGamesPerMinute()));
+        return sb.toString();
+    }
+}
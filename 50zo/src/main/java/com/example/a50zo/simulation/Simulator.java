@@ -0,0 +1,115 @@
+package com.example.a50zo.simulation;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameRandom;
+
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs batches of machine-only games back-to-back on the calling thread.
+ * Intended for evaluating bot strategies without the JavaFX interface.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class Simulator {
+    private final int numberOfPlayers;
+    private final GameEngine engine;
+
+    /**
+     * Constructor for Simulator using a default engine.
+     *
+     * @param numberOfPlayers Number of machine players per game (at least 2)
+     */
+    public Simulator(int numberOfPlayers) {
+        this(numberOfPlayers, new GameEngine());
+    }
+
+    /**
+     * Constructor for Simulator.
+     *
+     * @param numberOfPlayers Number of machine players per game (at least 2)
+     * @param engine          The engine used to play each game
+     */
+    public Simulator(int numberOfPlayers, GameEngine engine) {
+        if (numberOfPlayers < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players");
+        }
+        this.numberOfPlayers = numberOfPlayers;
+        this.engine = engine;
+    }
+
+    /**
+     * Plays a batch of games and aggregates their results.
+     *
+     * @param games Number of games to play
+     * @return Summary of the batch
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public SimulationSummary run(long games) throws EmptyDeckException {
+        return run(games, null);
+    }
+
+    /**
+     * Plays a batch of games, handing every result to a listener.
+     *
+     * @param games    Number of games to play
+     * @param listener Receives each game result, may be null
+     * @return Summary of the batch
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public SimulationSummary run(long games, Consumer<GameResult> listener) throws EmptyDeckException {
+        return run(games, GameRandom.newSeed(), listener);
+    }
+
+    /**
+     * Plays a reproducible batch of games: each game shuffles with its own
+     * stream split from a root generator, so the same seed replays the same games.
+     *
+     * @param games    Number of games to play
+     * @param seed     Root seed of the batch
+     * @param listener Receives each game result, may be null
+     * @return Summary of the batch
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public SimulationSummary run(long games, long seed, Consumer<GameResult> listener)
+            throws EmptyDeckException {
+        RandomGenerator.SplittableGenerator random = GameRandom.create(seed);
+        long[] wins = new long[numberOfPlayers];
+        long unfinished = 0;
+        long turns = 0;
+        long eliminations = 0;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < games; i++) {
+            GameResult result = engine.playMachineGame(numberOfPlayers, random.split());
+            if (result.isFinished()) {
+                wins[result.getWinnerSeat()]++;
+            } else {
+                unfinished++;
+            }
+            turns += result.getTurns();
+            eliminations += result.getEliminations();
+            if (listener != null) {
+                listener.accept(result);
+            }
+        }
+
+        return new SimulationSummary(games, unfinished, turns, eliminations, wins,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Command line entry point.
+     * Usage: {@code Simulator [games] [players]}
+     *
+     * @param args Optional number of games (default 1,000,000) and players (default 4)
+     * @throws EmptyDeckException if a game cannot replenish its deck
+     */
+    public static void main(String[] args) throws EmptyDeckException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        System.out.println(new Simulator(players).run(games));
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.a50zo.utils;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log records to a stream from a background thread.
+ * Logging threads copy the level, template and arguments into a preallocated
+ * slot of a bounded ring and return; the message text is only built and
+ * printed by the writer thread, so the arguments are kept by reference and
+ * must not change after the call. Several threads may log at once: a slot is
+ * claimed with a CAS on the tail and published through its sequence number.
+ * When the ring is full the record is dropped and counted instead of
+ * blocking the caller.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class AsyncLogWriter {
+    /** Default number of slots. */
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+
+    /**
+     * One reusable log record.
+     */
+    private static final class Slot {
+        private volatile long sequence;
+        private GameLogger.Level level;
+        private String logger;
+        private String template;
+        private Object arg1;
+        private Object arg2;
+        private Object arg3;
+        private Throwable thrown;
+        private long timeMillis;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final PrintStream out;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final StringBuilder line = new StringBuilder(256);
+    private final Thread writer;
+    private volatile long head;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor for AsyncLogWriter. Starts the writer thread.
+     *
+     * @param out      The stream to print to
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public AsyncLogWriter(PrintStream out, int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            slots[i].sequence = i;
+        }
+        this.mask = size - 1;
+        this.out = out;
+        this.writer = new Thread(this::writeLoop, "log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a record. Never blocks; the record is dropped if the ring is full.
+     *
+     * @param level    The record level
+     * @param logger   The logger name
+     * @param template Message with {@code {}} placeholders
+     * @param arg1     First argument, or null
+     * @param arg2     Second argument, or null
+     * @param arg3     Third argument, or null
+     * @param thrown   Exception to print after the message, or null
+     * @return false if the record was dropped
+     */
+    public boolean write(GameLogger.Level level, String logger, String template,
+                         Object arg1, Object arg2, Object arg3, Throwable thrown) {
+        long position = tail.get();
+        Slot slot;
+        while (true) {
+            slot = slots[(int) position & mask];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        slot.level = level;
+        slot.logger = logger;
+        slot.template = template;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.arg3 = arg3;
+        slot.thrown = thrown;
+        slot.timeMillis = System.currentTimeMillis();
+        slot.sequence = position + 1;
+        return true;
+    }
+
+    /**
+     * Writer thread: prints records as they are published and parks when idle.
+     */
+    private void writeLoop() {
+        while (running || hasPending()) {
+            if (!writeNext()) {
+                out.flush();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Prints the next record if it has been published.
+     *
+     * @return false if no record was ready
+     */
+    private boolean writeNext() {
+        long position = head;
+        Slot slot = slots[(int) position & mask];
+        if (slot.sequence != position + 1) {
+            return false;
+        }
+
+        line.setLength(0);
+        appendTime(slot.timeMillis);
+        line.append(' ').append(slot.level).append(" [").append(slot.logger).append("] ");
+        appendMessage(slot.template, slot.arg1, slot.arg2, slot.arg3);
+        out.println(line);
+        if (slot.thrown != null) {
+            slot.thrown.printStackTrace(out);
+        }
+
+        slot.logger = null;
+        slot.template = null;
+        slot.arg1 = null;
+        slot.arg2 = null;
+        slot.arg3 = null;
+        slot.thrown = null;
+        slot.sequence = position + slots.length;
+        head = position + 1;
+        return true;
+    }
+
+    /**
+     * Appends the wall-clock time of day as HH:mm:ss.SSS in UTC.
+     *
+     * @param timeMillis Epoch milliseconds
+     */
+    private void appendTime(long timeMillis) {
+        long dayMillis = Math.floorMod(timeMillis, 86_400_000L);
+        appendPadded(dayMillis / 3_600_000L, 2).append(':');
+        appendPadded(dayMillis / 60_000L % 60, 2).append(':');
+        appendPadded(dayMillis / 1000L % 60, 2).append('.');
+        appendPadded(dayMillis % 1000L, 3);
+    }
+
+    /**
+     * Appends a number left-padded with zeros.
+     *
+     * @param value  The non-negative number
+     * @param digits Minimum number of digits
+     * @return The line being built
+     */
+    private StringBuilder appendPadded(long value, int digits) {
+        for (long limit = 10; digits > 1; digits--, limit *= 10) {
+            if (value < limit) {
+                line.append('0');
+            }
+        }
+        return line.append(value);
+    }
+
+    /**
+     * Appends a message, replacing each {@code {}} with the next argument.
+     *
+     * @param template Message with up to three placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     * @param arg3     Third argument
+     */
+    private void appendMessage(String template, Object arg1, Object arg2, Object arg3) {
+        int argument = 0;
+        int from = 0;
+        int placeholder;
+        while (argument < 3 && (placeholder = template.indexOf("{}", from)) >= 0) {
+            line.append(template, from, placeholder);
+            line.append(argument == 0 ? arg1 : argument == 1 ? arg2 : arg3);
+            argument++;
+            from = placeholder + 2;
+        }
+        line.append(template, from, template.length());
+    }
+
+    /**
+     * Checks whether published records are still waiting to be printed.
+     *
+     * @return true if the writer is behind
+     */
+    private boolean hasPending() {
+        return head != tail.get();
+    }
+
+    /**
+     * Waits until every record queued so far has been printed.
+     *
+     * @param timeoutMillis Maximum time to wait
+     * @return true if the writer caught up in time
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (head < target) {
+            if (System.nanoTime() > deadline || !writer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    /**
+     * Prints what is queued and stops the writer thread.
+     *
+     * @param timeoutMillis Maximum time to wait for the queue to drain
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of records dropped because the ring was full.
+     *
+     * @return Number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.a50zo.utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sprite sheet holding every card face and the card back, pre-scaled to one display size.
+ * All images share a single texture; an ImageView shows one card by pointing
+ * its viewport at that card's cell, so views never rescale images while
+ * rendering and a size costs one texture instead of one per card.
+ * Atlases are immutable once built and can be built off the FX thread.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class CardAtlas {
+
+    /**
+     * Display sizes used by the game view.
+     */
+    public enum Size {
+        /** Cards in the human player's hand. */
+        HAND(85, 119),
+        /** Card backs of the machine players. */
+        BACK(50, 70),
+        /** The card on top of the table. */
+        TABLE(115, 160);
+
+        private final int width;
+        private final int height;
+
+        Size(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Gets the width of a card at this size.
+         *
+         * @return Width in pixels
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Gets the height of a card at this size.
+         *
+         * @return Height in pixels
+         */
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    private static final GameLogger LOG = GameLogger.getLogger("CardAtlas");
+    private static final int COLUMNS = 14;
+
+    private final Size size;
+    private final WritableImage image;
+    private final Map<String, Rectangle2D> viewports;
+
+    /**
+     * Constructor for CardAtlas.
+     *
+     * @param size      The display size of the cells
+     * @param image     The texture holding every cell
+     * @param viewports Cell of each image file name
+     */
+    private CardAtlas(Size size, WritableImage image, Map<String, Rectangle2D> viewports) {
+        this.size = size;
+        this.image = image;
+        this.viewports = viewports;
+    }
+
+    /**
+     * Builds an atlas by decoding each image at the target size and copying it into its cell.
+     * Safe to call on any thread.
+     *
+     * @param size      The display size
+     * @param fileNames Image file names, one cell each
+     * @param decoder   Decodes a file name into an image already scaled to the size
+     * @return The atlas
+     */
+    public static CardAtlas build(Size size, List<String> fileNames, Function<String, Image> decoder) {
+        int rows = (fileNames.size() + COLUMNS - 1) / COLUMNS;
+        WritableImage atlas = new WritableImage(COLUMNS * size.getWidth(), rows * size.getHeight());
+        Map<String, Rectangle2D> viewports = new HashMap<>();
+
+        for (int i = 0; i < fileNames.size(); i++) {
+            String fileName = fileNames.get(i);
+            Image cardImage = decoder.apply(fileName);
+            if (cardImage == null || cardImage.isError()) {
+                LOG.warn("Error loading image: {}", fileName);
+                continue;
+            }
+            // La imagen ya viene escalada, pero se recorta por si excede la celda
+            int width = Math.min((int) cardImage.getWidth(), size.getWidth());
+            int height = Math.min((int) cardImage.getHeight(), size.getHeight());
+            int x = (i % COLUMNS) * size.getWidth();
+            int y = (i / COLUMNS) * size.getHeight();
+            PixelReader reader = cardImage.getPixelReader();
+            atlas.getPixelWriter().setPixels(x, y, width, height, reader, 0, 0);
+            viewports.put(fileName, new Rectangle2D(x, y, width, height));
+        }
+        return new CardAtlas(size, atlas, Map.copyOf(viewports));
+    }
+
+    /**
+     * Shows an image of the atlas in a view.
+     * Nothing changes when the view already shows that image.
+     *
+     * @param view     The view to update
+     * @param fileName The image file name
+     */
+    public void show(ImageView view, String fileName) {
+        Rectangle2D viewport = viewports.get(fileName);
+        if (view.getImage() != image) {
+            view.setImage(image);
+        }
+        if (viewport != null && !viewport.equals(view.getViewport())) {
+            view.setViewport(viewport);
+        }
+    }
+
+    /**
+     * Gets the display size of the cells.
+     *
+     * @return The size
+     */
+    public Size getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the texture holding every cell.
+     *
+     * @return The atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the cell of an image.
+     *
+     * @param fileName The image file name
+     * @return The cell, or null if the image is not in the atlas
+     */
+    public Rectangle2D getViewport(String fileName) {
+        return viewports.get(fileName);
+    }
+
+    /**
+     * Gets the number of bytes taken by the decoded texture.
+     *
+     * @return Texture size in bytes, at four bytes per pixel
+     */
+    public long getTextureBytes() {
+        return 4L * (long) image.getWidth() * (long) image.getHeight();
+    }
+}
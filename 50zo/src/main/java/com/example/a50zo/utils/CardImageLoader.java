@@ -1,60 +1,187 @@
 package com.example.a50zo.utils;
 
+import com.example.a50zo.model.Card;
 import javafx.scene.image.Image;
-import java.util.HashMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Utility class for loading and caching card images.
  * Implements singleton pattern for efficient memory usage.
+ * At startup {@link #preloadAsync()} decodes every card on a background thread
+ * into one pre-scaled {@link CardAtlas} per display size, so the game view
+ * never decodes or rescales an image on the FX thread.
+ * Individually requested images are kept in a thread-safe {@link LruCache}
+ * keyed by file name and target size and bounded by decoded bytes, so any
+ * thread may load or preload images.
  *
  * @author Cincuentazo Team
  * @version 1.0
  */
 public class CardImageLoader {
-    private static CardImageLoader instance;
-    private final Map<String, Image> imageCache;
-    private final Image cardBackImage;
+    /** Default bound of the image cache: room for every card at full size several times over. */
+    public static final long DEFAULT_CACHE_BYTES = 32L * 1024 * 1024;
+    private static final GameLogger LOG = GameLogger.getLogger("CardImageLoader");
     private static final String IMAGE_PATH = "/images/cards/";
-    private static final String CARD_BACK = "back.png";
+    /** File name of the card back image. */
+    public static final String CARD_BACK = "back.png";
+    private static final Executor BACKGROUND = task -> {
+        Thread thread = new Thread(task, "card-image-loader");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final LruCache<ImageKey, Image> imageCache;
+    private CompletableFuture<Map<CardAtlas.Size, CardAtlas>> atlases;
+
+    /**
+     * Cache key: an image file decoded at a requested size (0 for natural size).
+     */
+    private static final class ImageKey {
+        private final String fileName;
+        private final int width;
+        private final int height;
+
+        private ImageKey(String fileName, int width, int height) {
+            this.fileName = fileName;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey other = (ImageKey) o;
+            return width == other.width && height == other.height && fileName.equals(other.fileName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, width, height);
+        }
+    }
+
+    /**
+     * Lazily created instance; the JVM guarantees the holder is initialized once, on first use.
+     */
+    private static final class Holder {
+        private static final CardImageLoader INSTANCE = new CardImageLoader(DEFAULT_CACHE_BYTES);
+    }
 
     /**
      * Private constructor for singleton pattern.
+     *
+     * @param maxCacheBytes Bound of the image cache in decoded bytes
      */
-    private CardImageLoader() {
-        imageCache = new HashMap<>();
-        cardBackImage = loadImage(CARD_BACK);
+    private CardImageLoader(long maxCacheBytes) {
+        imageCache = new LruCache<>(maxCacheBytes, CardImageLoader::decodedBytes);
     }
 
     /**
-     * Gets the singleton instance of CardImageLoader.
+     * Gets the singleton instance of CardImageLoader. Safe to call from any thread.
      *
      * @return The CardImageLoader instance
      */
     public static CardImageLoader getInstance() {
-        if (instance == null) {
-            instance = new CardImageLoader();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Gets the memory taken by a decoded image.
+     *
+     * @param image The image
+     * @return Size in bytes, at four bytes per pixel
+     */
+    private static long decodedBytes(Image image) {
+        return 4L * (long) image.getWidth() * (long) image.getHeight();
     }
 
     /**
-     * Loads a card image by file name.
-     * Uses caching to avoid reloading the same image.
+     * Loads a card image by file name, optionally scaled to fit a size.
      *
      * @param fileName Name of the image file
-     * @return The loaded Image object
+     * @param width    Width to fit, or 0 for the natural size
+     * @param height   Height to fit, or 0 for the natural size
+     * @return The loaded Image object, or null if it cannot be read
      */
-    private Image loadImage(String fileName) {
+    private Image loadImage(String fileName, int width, int height) {
         try {
             String path = IMAGE_PATH + fileName;
-            return new Image(getClass().getResourceAsStream(path));
+            Image image = new Image(getClass().getResourceAsStream(path), width, height, true, true);
+            return image.isError() ? null : image;
         } catch (Exception e) {
-            System.err.println("Error loading image: " + fileName);
+            LOG.warn("Error loading image: {}", fileName);
             return null;
         }
     }
 
+    /**
+     * Starts building the card atlases on a background thread.
+     * Only the first call starts the work; later calls return the same task.
+     *
+     * @return Completes when every atlas is ready
+     */
+    public CompletableFuture<Void> preloadAsync() {
+        return atlasTask().thenAccept(ready -> { });
+    }
+
+    /**
+     * Gets the atlas building task, starting it on first use.
+     *
+     * @return The task
+     */
+    private synchronized CompletableFuture<Map<CardAtlas.Size, CardAtlas>> atlasTask() {
+        if (atlases == null) {
+            atlases = CompletableFuture.supplyAsync(this::buildAtlases, BACKGROUND);
+        }
+        return atlases;
+    }
+
+    /**
+     * Gets the atlas for a display size.
+     * Waits for the preload if it is still running, and starts it if it never was.
+     *
+     * @param size The display size
+     * @return The atlas for that size
+     */
+    public CardAtlas getAtlas(CardAtlas.Size size) {
+        return atlasTask().join().get(size);
+    }
+
+    /**
+     * Decodes all card images into one atlas per display size.
+     *
+     * @return The atlases by size
+     */
+    private Map<CardAtlas.Size, CardAtlas> buildAtlases() {
+        long start = System.nanoTime();
+        List<String> fileNames = new ArrayList<>(Card.COUNT + 1);
+        for (int id = 0; id < Card.COUNT; id++) {
+            fileNames.add(Card.of(id).getImageFileName());
+        }
+        fileNames.add(CARD_BACK);
+
+        Map<CardAtlas.Size, CardAtlas> built = new EnumMap<>(CardAtlas.Size.class);
+        long textureBytes = 0;
+        for (CardAtlas.Size size : CardAtlas.Size.values()) {
+            CardAtlas atlas = CardAtlas.build(size, fileNames, fileName -> loadImage(fileName, size.getWidth(), size.getHeight()));
+            built.put(size, atlas);
+            textureBytes += atlas.getTextureBytes();
+        }
+        LOG.info("{} atlases ready in {} ms ({} KB of textures)",
+                built.size(), (System.nanoTime() - start) / 1_000_000, textureBytes / 1024);
+        return built;
+    }
+
     /**
      * Gets the image for a specific card.
      *
@@ -62,10 +189,38 @@ public class CardImageLoader {
      * @return The card image
      */
     public Image getCardImage(String fileName) {
-        if (!imageCache.containsKey(fileName)) {
-            imageCache.put(fileName, loadImage(fileName));
-        }
-        return imageCache.get(fileName);
+        return getCardImage(fileName, 0, 0);
+    }
+
+    /**
+     * Gets a card image decoded to fit a size, from the cache when possible.
+     * Safe to call from any thread; concurrent requests for the same image decode it once.
+     *
+     * @param fileName The card's image file name
+     * @param width    Width to fit, or 0 for the natural size
+     * @param height   Height to fit, or 0 for the natural size
+     * @return The card image, or null if it cannot be read
+     */
+    public Image getCardImage(String fileName, int width, int height) {
+        return imageCache.get(new ImageKey(fileName, width, height),
+                key -> loadImage(key.fileName, key.width, key.height));
+    }
+
+    /**
+     * Decodes images into the cache on a background thread.
+     *
+     * @param fileNames The image file names
+     * @param width     Width to fit, or 0 for the natural size
+     * @param height    Height to fit, or 0 for the natural size
+     * @return Completes when every image is cached
+     */
+    public CompletableFuture<Void> preloadImagesAsync(Collection<String> fileNames, int width, int height) {
+        List<String> names = List.copyOf(fileNames);
+        return CompletableFuture.runAsync(() -> {
+            for (String fileName : names) {
+                getCardImage(fileName, width, height);
+            }
+        }, BACKGROUND);
     }
 
     /**
@@ -74,11 +229,20 @@ public class CardImageLoader {
      * @return The card back image
      */
     public Image getCardBackImage() {
-        return cardBackImage;
+        return getCardImage(CARD_BACK);
+    }
+
+    /**
+     * Gets the image cache, for its hit, miss, eviction and decoded bytes counters.
+     *
+     * @return The image cache
+     */
+    public LruCache<?, Image> getImageCache() {
+        return imageCache;
     }
 
     /**
-     * Clears the image cache to free memory.
+     * Clears the image cache to free memory. The atlases are kept.
      */
     public void clearCache() {
         imageCache.clear();
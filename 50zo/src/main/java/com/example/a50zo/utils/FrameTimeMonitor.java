@@ -0,0 +1,117 @@
+package com.example.a50zo.utils;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Measures the time between JavaFX pulses to detect frames where the
+ * JavaFX Application Thread was blocked.
+ * A pulse gap longer than one 60 Hz frame budget means the thread was busy
+ * for more than 16 ms. Gaps longer than {@link #LONG_FRAME_NANOS}, the budget
+ * plus a small allowance for pulse timing jitter, are counted as long frames,
+ * so the count should stay at zero while the machines think.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class FrameTimeMonitor {
+    /** Frame budget at 60 frames per second. */
+    public static final long FRAME_BUDGET_NANOS = 16_666_667L;
+    /** Allowance for pulses that arrive slightly late on an idle thread. */
+    public static final long FRAME_JITTER_NANOS = 1_000_000L;
+    /** Pulse gap above which a frame counts as long: it went over the frame budget. */
+    public static final long LONG_FRAME_NANOS = FRAME_BUDGET_NANOS + FRAME_JITTER_NANOS;
+
+    private final AnimationTimer timer;
+    private long lastPulse;
+    private long maxFrameNanos;
+    private int frames;
+    private int longFrames;
+    private boolean running;
+
+    /**
+     * Constructor for FrameTimeMonitor.
+     */
+    public FrameTimeMonitor() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (lastPulse != 0) {
+                    long frame = now - lastPulse;
+                    frames++;
+                    maxFrameNanos = Math.max(maxFrameNanos, frame);
+                    if (frame > LONG_FRAME_NANOS) {
+                        longFrames++;
+                    }
+                }
+                lastPulse = now;
+            }
+        };
+    }
+
+    /**
+     * Clears the statistics and starts measuring. Must be called on the FX thread.
+     */
+    public void start() {
+        lastPulse = 0;
+        maxFrameNanos = 0;
+        frames = 0;
+        longFrames = 0;
+        running = true;
+        timer.start();
+    }
+
+    /**
+     * Stops measuring. Must be called on the FX thread.
+     */
+    public void stop() {
+        running = false;
+        timer.stop();
+    }
+
+    /**
+     * Checks if the monitor is measuring.
+     *
+     * @return true between start and stop
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the longest gap between two pulses since the last start.
+     *
+     * @return Longest frame in nanoseconds
+     */
+    public long getMaxFrameNanos() {
+        return maxFrameNanos;
+    }
+
+    /**
+     * Gets the number of frames measured since the last start.
+     *
+     * @return Number of frames
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets the number of long frames since the last start.
+     *
+     * @return Number of frames longer than {@link #LONG_FRAME_NANOS}
+     */
+    public int getLongFrames() {
+        return longFrames;
+    }
+
+    /**
+     * Returns a one-line summary of the measurements.
+     *
+     * @return Frame count, longest frame and number of frames over budget
+     */
+    @Override
+    public String toString() {
+        return String.format("%d frames, max %.1f ms, %d over %.1f ms", frames, maxFrameNanos / 1_000_000.0,
+                longFrames, LONG_FRAME_NANOS / 1_000_000.0);
+    }
+}
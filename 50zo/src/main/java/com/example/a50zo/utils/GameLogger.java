@@ -0,0 +1,352 @@
+package com.example.a50zo.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Small logging facade with a runtime level and asynchronous output.
+ * A call below the current level returns after one comparison: the template
+ * is a constant and the arguments are only turned into text, on the writer
+ * thread, when the record is printed. Fixed-arity overloads avoid varargs
+ * arrays; {@link Supplier} overloads are for messages that are expensive to
+ * compute and are only evaluated when the level is enabled.
+ * <p>
+ * Because the text is built later on another thread, arguments must be
+ * primitives or immutable objects. To log an object that keeps changing,
+ * such as a statistics counter, pass its {@code toString()} or use a
+ * {@link Supplier} overload, which builds the message on the calling thread.
+ * The level defaults to INFO and can be set with the
+ * {@code cincuentazo.log.level} system property or {@link #setLevel(Level)}.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public final class GameLogger {
+
+    /**
+     * Log levels, from most to least verbose.
+     */
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static volatile Level threshold = parseLevel(System.getProperty("cincuentazo.log.level"), Level.INFO);
+
+    /**
+     * Writer shared by loggers created with {@link #getLogger(String)}, started on first use.
+     */
+    private static final class DefaultWriter {
+        private static final AsyncLogWriter INSTANCE =
+                new AsyncLogWriter(System.out, AsyncLogWriter.DEFAULT_CAPACITY);
+    }
+
+    private static volatile boolean defaultWriterStarted;
+
+    private final String name;
+    private final AsyncLogWriter writer;
+
+    /**
+     * Constructor for GameLogger.
+     *
+     * @param name   Name printed with every record
+     * @param writer Writer for the records, or null for the shared console writer
+     */
+    public GameLogger(String name, AsyncLogWriter writer) {
+        this.name = name;
+        this.writer = writer;
+    }
+
+    /**
+     * Creates a logger that writes to the shared console writer.
+     *
+     * @param name Name printed with every record
+     * @return The logger
+     */
+    public static GameLogger getLogger(String name) {
+        return new GameLogger(name, null);
+    }
+
+    /**
+     * Parses a level name.
+     *
+     * @param value    Level name, case-insensitive, may be null
+     * @param fallback Level used when the name is missing or unknown
+     * @return The level
+     */
+    private static Level parseLevel(String value, Level fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Sets the level for every logger.
+     *
+     * @param level Records below this level are discarded
+     */
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    /**
+     * Gets the level for every logger.
+     *
+     * @return The current level
+     */
+    public static Level getLevel() {
+        return threshold;
+    }
+
+    /**
+     * Prints what the shared console writer has queued and stops it.
+     * Does nothing if no logger ever used it.
+     */
+    public static void shutdown() {
+        if (defaultWriterStarted) {
+            DefaultWriter.INSTANCE.shutdown(1000);
+        }
+    }
+
+    /**
+     * Checks whether records of a level are written.
+     *
+     * @param level The level
+     * @return true if the level is enabled
+     */
+    public boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Checks whether debug records are written.
+     *
+     * @return true if DEBUG is enabled
+     */
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    /**
+     * Queues a record with up to three arguments.
+     *
+     * @param level    The level
+     * @param template Message with {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     * @param arg3     Third argument
+     * @param thrown   Exception to print, or null
+     */
+    private void write(Level level, String template, Object arg1, Object arg2, Object arg3, Throwable thrown) {
+        AsyncLogWriter target = writer;
+        if (target == null) {
+            defaultWriterStarted = true;
+            target = DefaultWriter.INSTANCE;
+        }
+        target.write(level, name, template, arg1, arg2, arg3, thrown);
+    }
+
+    /**
+     * Logs a message at a level.
+     *
+     * @param level   The level
+     * @param message The message
+     */
+    public void log(Level level, String message) {
+        if (isEnabled(level)) {
+            write(level, message, null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with one argument at a level.
+     *
+     * @param level    The level
+     * @param template Message with one {@code {}} placeholder
+     * @param arg      The argument
+     */
+    public void log(Level level, String template, Object arg) {
+        if (isEnabled(level)) {
+            write(level, template, arg, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with two arguments at a level.
+     *
+     * @param level    The level
+     * @param template Message with two {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     */
+    public void log(Level level, String template, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            write(level, template, arg1, arg2, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with three arguments at a level.
+     *
+     * @param level    The level
+     * @param template Message with three {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     * @param arg3     Third argument
+     */
+    public void log(Level level, String template, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(level)) {
+            write(level, template, arg1, arg2, arg3, null);
+        }
+    }
+
+    /**
+     * Logs a computed message at a level. The supplier only runs if the level is enabled.
+     *
+     * @param level   The level
+     * @param message Computes the message
+     */
+    public void log(Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            write(level, message.get(), null, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a debug message.
+     *
+     * @param message The message
+     */
+    public void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Logs a debug message with one argument.
+     *
+     * @param template Message with one {@code {}} placeholder
+     * @param arg      The argument
+     */
+    public void debug(String template, Object arg) {
+        log(Level.DEBUG, template, arg);
+    }
+
+    /**
+     * Logs a debug message with two arguments.
+     *
+     * @param template Message with two {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     */
+    public void debug(String template, Object arg1, Object arg2) {
+        log(Level.DEBUG, template, arg1, arg2);
+    }
+
+    /**
+     * Logs a debug message with three arguments.
+     *
+     * @param template Message with three {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     * @param arg3     Third argument
+     */
+    public void debug(String template, Object arg1, Object arg2, Object arg3) {
+        log(Level.DEBUG, template, arg1, arg2, arg3);
+    }
+
+    /**
+     * Logs a computed debug message.
+     *
+     * @param message Computes the message, only when DEBUG is enabled
+     */
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Logs an info message.
+     *
+     * @param message The message
+     */
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs an info message with one argument.
+     *
+     * @param template Message with one {@code {}} placeholder
+     * @param arg      The argument
+     */
+    public void info(String template, Object arg) {
+        log(Level.INFO, template, arg);
+    }
+
+    /**
+     * Logs an info message with two arguments.
+     *
+     * @param template Message with two {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     */
+    public void info(String template, Object arg1, Object arg2) {
+        log(Level.INFO, template, arg1, arg2);
+    }
+
+    /**
+     * Logs an info message with three arguments.
+     *
+     * @param template Message with three {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     * @param arg3     Third argument
+     */
+    public void info(String template, Object arg1, Object arg2, Object arg3) {
+        log(Level.INFO, template, arg1, arg2, arg3);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param message The message
+     */
+    public void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    /**
+     * Logs a warning with one argument.
+     *
+     * @param template Message with one {@code {}} placeholder
+     * @param arg      The argument
+     */
+    public void warn(String template, Object arg) {
+        log(Level.WARN, template, arg);
+    }
+
+    /**
+     * Logs a warning with two arguments.
+     *
+     * @param template Message with two {@code {}} placeholders
+     * @param arg1     First argument
+     * @param arg2     Second argument
+     */
+    public void warn(String template, Object arg1, Object arg2) {
+        log(Level.WARN, template, arg1, arg2);
+    }
+
+    /**
+     * Logs an error with its exception.
+     *
+     * @param message The message
+     * @param thrown  The exception, printed with its stack trace
+     */
+    public void error(String message, Throwable thrown) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, message, null, null, null, thrown);
+        }
+    }
+}
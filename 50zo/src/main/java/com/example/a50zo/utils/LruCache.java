@@ -0,0 +1,215 @@
+package com.example.a50zo.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache bounded by the total weight of its values, evicting the least recently used.
+ * Values are weighed once when stored (for images, their decoded size in bytes).
+ * Concurrent requests for the same missing key share one load instead of
+ * loading it twice; loads run outside the cache lock, so a slow decode
+ * never blocks readers of other keys.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+public class LruCache<K, V> {
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    // Orden de acceso: el primero es el menos usado recientemente
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long loadedWeight;
+
+    /**
+     * Constructor for LruCache.
+     *
+     * @param maxWeight Maximum total weight kept; the most recent value is kept even if heavier
+     * @param weigher   Weight of a value, such as its size in bytes
+     */
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Gets a value, loading and storing it on a miss.
+     * Null results are returned but not stored.
+     *
+     * @param key    The key
+     * @param loader Loads the value for a missing key
+     * @return The value, or null if the loader returned null
+     */
+    public V get(K key, Function<K, V> loader) {
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        CompletableFuture<V> ownLoad = new CompletableFuture<>();
+        CompletableFuture<V> otherLoad = loading.putIfAbsent(key, ownLoad);
+        if (otherLoad != null) {
+            return otherLoad.join();
+        }
+        try {
+            V value;
+            synchronized (this) {
+                value = entries.get(key);
+            }
+            if (value == null) {
+                value = loader.apply(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            ownLoad.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, ownLoad);
+        }
+    }
+
+    /**
+     * Gets a value without loading it.
+     *
+     * @param key The key
+     * @return The cached value, or null
+     */
+    public synchronized V getIfPresent(K key) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cached;
+    }
+
+    /**
+     * Stores a value, evicting least recently used values until the cache fits its bound.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public synchronized void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += valueWeight;
+        loadedWeight += valueWeight;
+
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && entries.size() > 1) {
+            Map.Entry<K, V> entry = eldest.next();
+            weight -= weigher.applyAsLong(entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes every value. Counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Gets the number of values stored.
+     *
+     * @return Number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the total weight of the values stored.
+     *
+     * @return Current weight
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Gets the maximum total weight.
+     *
+     * @return The bound
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return Number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that found no value.
+     *
+     * @return Number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of values removed to respect the bound.
+     *
+     * @return Number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the total weight of every value ever stored, including evicted ones.
+     * For images this is the number of bytes decoded.
+     *
+     * @return Cumulative stored weight
+     */
+    public synchronized long getLoadedWeight() {
+        return loadedWeight;
+    }
+
+    /**
+     * Returns a one-line summary of the cache counters.
+     *
+     * @return Counter summary
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%d entries, %d/%d weight, %d hits, %d misses, %d evictions, %d loaded",
+                entries.size(), weight, maxWeight, hits, misses, evictions, loadedWeight);
+    }
+}
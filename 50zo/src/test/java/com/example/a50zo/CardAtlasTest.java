@@ -0,0 +1,70 @@
+package com.example.a50zo;
+
+import com.example.a50zo.utils.CardAtlas;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CardAtlas.
+ * Uses generated images so no resources are decoded.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class CardAtlasTest {
+
+    /**
+     * Creates an image filled with one color.
+     */
+    private static WritableImage filled(int width, int height, Color color) {
+        WritableImage image = new WritableImage(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.getPixelWriter().setColor(x, y, color);
+            }
+        }
+        return image;
+    }
+
+    @Test
+    @DisplayName("Test every image gets its own cell holding its pixels")
+    void testCellsHoldTheirImages() {
+        CardAtlas.Size size = CardAtlas.Size.BACK;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            names.add(i + ".png");
+        }
+
+        CardAtlas atlas = CardAtlas.build(size, names, name -> filled(size.getWidth(), size.getHeight(),
+                Color.gray(Integer.parseInt(name.substring(0, name.indexOf('.'))) / 16.0)));
+
+        assertEquals(14 * size.getWidth(), (int) atlas.getImage().getWidth());
+        assertEquals(2 * size.getHeight(), (int) atlas.getImage().getHeight());
+        for (int i = 0; i < names.size(); i++) {
+            Rectangle2D cell = atlas.getViewport(names.get(i));
+            assertEquals(size.getWidth(), cell.getWidth());
+            Color pixel = atlas.getImage().getPixelReader().getColor((int) cell.getMinX(), (int) cell.getMinY());
+            assertEquals(i / 16.0, pixel.getRed(), 0.01);
+        }
+    }
+
+    @Test
+    @DisplayName("Test narrower images keep their own width and missing images have no cell")
+    void testImageSizes() {
+        CardAtlas.Size size = CardAtlas.Size.HAND;
+        CardAtlas atlas = CardAtlas.build(size, List.of("narrow.png", "missing.png"),
+                name -> name.startsWith("narrow") ? filled(80, size.getHeight(), Color.RED) : null);
+
+        assertEquals(80, atlas.getViewport("narrow.png").getWidth());
+        assertNull(atlas.getViewport("missing.png"));
+        assertEquals(4L * 14 * size.getWidth() * size.getHeight(), atlas.getTextureBytes());
+    }
+}
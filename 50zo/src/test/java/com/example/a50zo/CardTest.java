@@ -124,4 +124,41 @@ class CardTest {
         assertEquals(Rank.KING, kingCard.getRank());
         assertEquals(Suit.SPADES, kingCard.getSuit());
     }
+
+    @Test
+    @DisplayName("Test canonical cards are shared and indexed by id")
+    void testCanonicalCards() {
+        for (int id = 0; id < Card.COUNT; id++) {
+            Card card = Card.of(id);
+            assertEquals(id, card.id());
+            assertSame(card, Card.of(card.getRank(), card.getSuit()));
+        }
+        assertEquals(Card.idOf(Rank.ACE, Suit.HEARTS), aceCard.id());
+    }
+
+    @Test
+    @DisplayName("Test cards with the same rank and suit are equal")
+    void testValueEquality() {
+        Card sameAce = new Card(Rank.ACE, Suit.HEARTS);
+        assertEquals(aceCard, sameAce);
+        assertEquals(aceCard.hashCode(), sameAce.hashCode());
+        assertEquals(Card.of(Rank.ACE, Suit.HEARTS), aceCard);
+        assertNotEquals(aceCard, new Card(Rank.ACE, Suit.SPADES));
+    }
+
+    @Test
+    @DisplayName("Test card values match the Ace rule for every reachable sum")
+    void testValuesMatchAceRule() {
+        for (Rank rank : Rank.values()) {
+            for (int sum = -100; sum <= 100; sum++) {
+                int expected = rank.getPrimaryValue();
+                if (rank.hasMultipleValues() && sum + rank.getSecondaryValue() <= 50) {
+                    expected = rank.getSecondaryValue();
+                }
+                Card card = Card.of(rank, Suit.CLUBS);
+                assertEquals(expected, card.getBestValue(sum), rank + " at sum " + sum);
+                assertEquals(sum + expected <= 50, card.canBePlayed(sum), rank + " at sum " + sum);
+            }
+        }
+    }
 }
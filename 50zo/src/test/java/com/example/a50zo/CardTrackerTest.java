@@ -0,0 +1,159 @@
+package com.example.a50zo;
+
+import com.example.a50zo.ai.CardCountingMachinePlayer;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.CardTracker;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameModelListener;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.Suit;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.GameResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CardTracker class.
+ * Tests the counts against the real game through plays, reshuffles and eliminations.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class CardTrackerTest {
+
+    /**
+     * Counts the cards of a rank in a set of card ids.
+     *
+     * @param cards Bitmask of card ids
+     * @param rank  The rank
+     * @return Number of cards of that rank
+     */
+    private static int countRank(long cards, Rank rank) {
+        int count = 0;
+        for (Suit suit : Suit.values()) {
+            if ((cards & Card.of(rank, suit).mask()) != 0L) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks a tracker against the cards a seat cannot see in a state.
+     *
+     * @param tracker The tracker
+     * @param state   The real game
+     * @param seat    The tracker's player
+     */
+    private static void assertMatches(CardTracker tracker, GameState state, int seat) {
+        long unseen = 0L;
+        for (int i = 0; i < state.getDeckSize(); i++) {
+            unseen |= 1L << state.getDeckCard(i);
+        }
+        for (int other = 0; other < state.getPlayerCount(); other++) {
+            if (other != seat) {
+                unseen |= state.getHand(other);
+            }
+        }
+        assertEquals(Long.bitCount(unseen), tracker.getUnseenTotal());
+        for (Rank rank : Rank.values()) {
+            assertEquals(countRank(unseen, rank), tracker.getUnseenCount(rank), rank.name());
+            assertEquals(countRank(state.getTableMask(), rank), tracker.getTableCount(rank), rank.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Test the tracker matches the game after the deal")
+    void testAfterDeal() throws EmptyDeckException {
+        GameModel model = new GameModel(3, 9L);
+        model.setLoggingEnabled(false);
+        CardTracker tracker = new CardTracker(model.getPlayers().get(0), model.getRules());
+        model.addListener(tracker);
+        model.initializeGame();
+
+        assertEquals(Card.COUNT - 4 - 1, tracker.getUnseenTotal());
+        assertMatches(tracker, model.snapshot(), 0);
+    }
+
+    @Test
+    @DisplayName("Test the tracker follows whole games, reshuffles and eliminations included")
+    void testFollowsGames() throws EmptyDeckException {
+        int[] replenishes = new int[1];
+        int[] eliminations = new int[1];
+        GameModelListener counter = new GameModelListener() {
+            @Override
+            public void onDeckReplenished(int cardsReturned, int deckSize) {
+                replenishes[0]++;
+            }
+
+            @Override
+            public void onPlayerEliminated(Player player, int cardsReturned, int deckSize) {
+                eliminations[0]++;
+            }
+        };
+
+        for (long seed = 1; seed <= 20; seed++) {
+            List<Player> seats = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                seats.add(new MachinePlayer("Machine " + i));
+            }
+            GameModel model = new GameModel(seats, new SplittableRandom(seed));
+            model.setLoggingEnabled(false);
+            List<CardTracker> trackers = new ArrayList<>();
+            for (Player seat : seats) {
+                CardTracker tracker = new CardTracker(seat, model.getRules());
+                trackers.add(tracker);
+                model.addListener(tracker);
+            }
+            model.addListener(counter);
+            model.initializeGame();
+
+            for (int turn = 0; turn < 500 && !model.isGameOver(); turn++) {
+                model.takeTurn();
+                GameState state = model.snapshot();
+                for (int seat = 0; seat < seats.size(); seat++) {
+                    assertMatches(trackers.get(seat), state, seat);
+                }
+            }
+        }
+        assertTrue(replenishes[0] > 0);
+        assertTrue(eliminations[0] > 0);
+    }
+
+    @Test
+    @DisplayName("Test rank probabilities and the stuck probability")
+    void testProbabilities() {
+        CardTracker tracker = new CardTracker(new MachinePlayer("Machine"), RuleSet.standard());
+
+        assertEquals(4.0 / 52, tracker.getRankProbability(Rank.ACE), 1e-12);
+        // Con 50 en la mesa solo valen nueves y figuras: 16 cartas
+        assertEquals(16, tracker.getPlayableUnseenCount(50));
+        double expected = (36.0 / 52) * (35.0 / 51) * (34.0 / 50) * (33.0 / 49);
+        assertEquals(expected, tracker.getStuckProbability(50, 4), 1e-12);
+        assertEquals(0.0, tracker.getStuckProbability(0, 4), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Test the card-counting player picks legal cards and finishes games")
+    void testCardCountingPlayer() throws EmptyDeckException {
+        List<Player> seats = new ArrayList<>();
+        seats.add(new CardCountingMachinePlayer("Counter"));
+        seats.add(new MachinePlayer("Machine 1"));
+        seats.add(new MachinePlayer("Machine 2"));
+
+        GameResult result = new GameEngine().play(new GameModel(seats, new SplittableRandom(21)));
+
+        assertTrue(result.isFinished());
+    }
+}
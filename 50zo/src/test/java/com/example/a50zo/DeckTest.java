@@ -10,8 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -181,4 +183,98 @@ class DeckTest {
         }
         assertEquals(42, deck.size());
     }
+
+    @Test
+    @DisplayName("Test cards added to the bottom are drawn after the rest of the deck")
+    void testAddedCardsGoToBottom() throws EmptyDeckException {
+        Card bottom = Card.of(Rank.ACE, Suit.HEARTS);
+        deck.drawCard();
+        deck.addCard(bottom);
+
+        for (int i = 0; i < 51; i++) {
+            deck.drawCard();
+        }
+        assertSame(bottom, deck.drawCard());
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test deck grows beyond its initial capacity and keeps order")
+    void testDeckGrowsWhenWrapped() throws EmptyDeckException {
+        for (int i = 0; i < 30; i++) {
+            deck.drawCard();
+        }
+        List<Card> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            added.add(Card.of(Rank.values()[i % 13], Suit.values()[i % 4]));
+        }
+        deck.addCards(added);
+        assertEquals(122, deck.size());
+
+        for (int i = 0; i < 22; i++) {
+            deck.drawCard();
+        }
+        for (Card card : added) {
+            assertSame(card, deck.drawCard());
+        }
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test replenish does not take the top card of the table")
+    void testReplenishKeepsTopCard() throws EmptyDeckException {
+        for (int i = 0; i < 52; i++) {
+            deck.drawCard();
+        }
+        List<Card> tablePile = new ArrayList<>();
+        Card topCard = new Card(Rank.KING, Suit.CLUBS);
+        tablePile.add(new Card(Rank.TWO, Suit.HEARTS));
+        tablePile.add(new Card(Rank.THREE, Suit.DIAMONDS));
+        tablePile.add(topCard);
+
+        deck.replenishFromTable(tablePile);
+
+        Set<Card> drawn = new HashSet<>();
+        drawn.add(deck.drawCard());
+        drawn.add(deck.drawCard());
+        assertTrue(deck.isEmpty());
+        assertFalse(drawn.contains(topCard));
+    }
+
+    @Test
+    @DisplayName("Test a shoe holds every card once per deck")
+    void testShoeContents() throws EmptyDeckException {
+        Deck shoe = new Deck(8, new Random(3));
+        assertEquals(8 * 52, shoe.size());
+
+        int[] counts = new int[Card.COUNT];
+        while (!shoe.isEmpty()) {
+            counts[shoe.drawCard().id()]++;
+        }
+        for (int count : counts) {
+            assertEquals(8, count);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Deck(0, new Random()));
+    }
+
+    @Test
+    @DisplayName("Test replenishing a large shoe keeps the table top card and every returned card")
+    void testShoeReplenish() throws EmptyDeckException {
+        Deck shoe = new Deck(16, new Random(5));
+        List<Card> tablePile = new ArrayList<>();
+        while (!shoe.isEmpty()) {
+            tablePile.add(shoe.drawCard());
+        }
+        Card topCard = tablePile.get(tablePile.size() - 1);
+
+        shoe.replenishFromTable(tablePile);
+
+        assertEquals(16 * 52 - 1, shoe.size());
+        int[] counts = new int[Card.COUNT];
+        while (!shoe.isEmpty()) {
+            counts[shoe.drawCard().id()]++;
+        }
+        assertEquals(15, counts[topCard.id()]);
+        assertEquals(16 * 52 - 1, Arrays.stream(counts).sum());
+    }
 }
\ No newline at end of file
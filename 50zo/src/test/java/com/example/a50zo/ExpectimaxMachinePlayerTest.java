@@ -0,0 +1,142 @@
+package com.example.a50zo;
+
+import com.example.a50zo.ai.ExpectimaxMachinePlayer;
+import com.example.a50zo.ai.SearchReport;
+import com.example.a50zo.ai.TranspositionTable;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.Suit;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.GameResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.example.a50zo.TestDeals.dealChoice;
+import static com.example.a50zo.TestDeals.dealWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExpectimaxMachinePlayer class.
+ * Tests legal and reproducible choices, reports and the use of the transposition table,
+ * including a table shared by games with different rules.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class ExpectimaxMachinePlayerTest {
+
+    @Test
+    @DisplayName("Test the chosen card is a legal card and the search is reported")
+    void testChoosesLegalCard() throws EmptyDeckException {
+        ExpectimaxMachinePlayer player = new ExpectimaxMachinePlayer("Expectimax");
+        GameModel model = dealChoice(player);
+
+        Card card = player.chooseCard(model.getTableSum());
+
+        assertNotNull(card);
+        assertNotEquals(0L, player.getPlayableMask(model.getTableSum()) & card.mask());
+        SearchReport report = player.getLastReport();
+        assertSame(card, report.getChosenCard());
+        assertTrue(report.getIterations() > 1);
+        assertTrue(report.getExpectedValue() >= 0.0 && report.getExpectedValue() <= 1.0);
+        assertTrue(player.getTranspositionTable().getStores() > 0);
+    }
+
+    @Test
+    @DisplayName("Test the same deal gives the same choice")
+    void testDeterministic() throws EmptyDeckException {
+        ExpectimaxMachinePlayer first = new ExpectimaxMachinePlayer("Expectimax", 3, new TranspositionTable(12));
+        ExpectimaxMachinePlayer second = new ExpectimaxMachinePlayer("Expectimax", 3, new TranspositionTable(16));
+
+        Card firstChoice = first.chooseCard(dealChoice(first).getTableSum());
+        Card secondChoice = second.chooseCard(dealChoice(second).getTableSum());
+
+        assertEquals(firstChoice, secondChoice);
+    }
+
+    @Test
+    @DisplayName("Test repeating a search is answered from the transposition table")
+    void testTableHits() throws EmptyDeckException {
+        ExpectimaxMachinePlayer player = new ExpectimaxMachinePlayer("Expectimax", 3, new TranspositionTable(16));
+        GameModel model = dealChoice(player);
+
+        Card first = player.chooseCard(model.getTableSum());
+        long firstNodes = player.getLastReport().getIterations();
+        Card second = player.chooseCard(model.getTableSum());
+
+        assertEquals(first, second);
+        assertTrue(player.getLastReport().getIterations() < firstNodes);
+        assertTrue(player.getTranspositionTable().getHitRate() > 0.0);
+    }
+
+    @Test
+    @DisplayName("Test a table shared by games with different rules keeps their values apart")
+    void testSharedTableAcrossRules() throws EmptyDeckException {
+        RuleSet lowTarget = RuleSet.builder().targetSum(25).build();
+        ExpectimaxMachinePlayer shared = new ExpectimaxMachinePlayer("Expectimax", 3, new TranspositionTable(16));
+        int differing = 0;
+
+        for (long seed = 1; seed < 50; seed++) {
+            GameModel standard = dealWith(shared, TestDeals.DEFAULT_PLAYERS, seed);
+            if (Long.bitCount(shared.getPlayableMask(standard.getTableSum())) < 2) {
+                continue;
+            }
+            shared.chooseCard(standard.getTableSum());
+            double standardValue = shared.getLastReport().getExpectedValue();
+
+            // Mismo reparto con otra meta: la tabla compartida no debe devolver los valores de la anterior
+            ExpectimaxMachinePlayer fresh = new ExpectimaxMachinePlayer("Expectimax", 3, new TranspositionTable(16));
+            fresh.chooseCard(dealWith(fresh, TestDeals.DEFAULT_PLAYERS, seed, lowTarget).getTableSum());
+            shared.chooseCard(dealWith(shared, TestDeals.DEFAULT_PLAYERS, seed, lowTarget).getTableSum());
+
+            double expected = fresh.getLastReport().getExpectedValue();
+            assertEquals(expected, shared.getLastReport().getExpectedValue(), 1e-12, "seed " + seed);
+            if (expected != standardValue) {
+                differing++;
+            }
+        }
+        assertTrue(differing > 0, "No deal had different values under the two targets");
+    }
+
+    @Test
+    @DisplayName("Test a single legal card is played without searching")
+    void testSingleLegalCard() {
+        ExpectimaxMachinePlayer player = new ExpectimaxMachinePlayer("Expectimax");
+        player.addCardToHand(Card.of(Rank.TEN, Suit.HEARTS));
+        player.addCardToHand(Card.of(Rank.NINE, Suit.SPADES));
+
+        assertEquals(Card.of(Rank.NINE, Suit.SPADES), player.chooseCard(45));
+        assertNull(player.getLastReport());
+    }
+
+    @Test
+    @DisplayName("Test a game with expectimax players finishes")
+    void testFullGame() throws EmptyDeckException {
+        TranspositionTable shared = new TranspositionTable(16);
+        List<Player> seats = new ArrayList<>();
+        seats.add(new ExpectimaxMachinePlayer("Expectimax 1", 2, shared));
+        seats.add(new MachinePlayer("Machine"));
+        seats.add(new ExpectimaxMachinePlayer("Expectimax 2", 2, shared));
+
+        GameResult result = new GameEngine().play(new GameModel(seats, new SplittableRandom(13)));
+
+        assertTrue(result.isFinished());
+    }
+
+    @Test
+    @DisplayName("Test an invalid depth is rejected")
+    void testInvalidDepth() {
+        TranspositionTable table = new TranspositionTable(4);
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxMachinePlayer("Expectimax", 0, table));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxMachinePlayer("Expectimax", 256, table));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameRandom;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.GameResult;
+import com.example.a50zo.simulation.SimulationSummary;
+import com.example.a50zo.simulation.Simulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless GameEngine and Simulator.
+ * Tests that complete machine-only games are played to the end.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine();
+    }
+
+    @Test
+    @DisplayName("Test machine game finishes with a single winner")
+    void testMachineGameHasWinner() throws EmptyDeckException {
+        GameResult result = engine.playMachineGame(4);
+
+        assertTrue(result.isFinished());
+        assertTrue(result.getWinnerSeat() >= 0 && result.getWinnerSeat() < 4);
+        assertEquals("Machine " + (result.getWinnerSeat() + 1), result.getWinnerName());
+        assertEquals(3, result.getEliminations());
+        assertTrue(result.getTurns() >= 3);
+    }
+
+    @Test
+    @DisplayName("Test eliminated seats are distinct and exclude the winner")
+    void testEliminationOrder() throws EmptyDeckException {
+        GameResult result = engine.playMachineGame(3);
+
+        Set<Integer> eliminated = new HashSet<>();
+        for (int seat : result.getEliminationOrder()) {
+            assertNotEquals(result.getWinnerSeat(), seat);
+            assertTrue(eliminated.add(seat));
+        }
+        assertEquals(2, eliminated.size());
+    }
+
+    @Test
+    @DisplayName("Test engine plays a model created with the player list constructor")
+    void testPlayExistingModel() throws EmptyDeckException {
+        GameModel model = new GameModel(List.of(
+                new MachinePlayer("A"),
+                new MachinePlayer("B")));
+
+        GameResult result = engine.play(model);
+
+        assertTrue(model.isGameOver());
+        assertEquals(model.getWinner().getName(), result.getWinnerName());
+    }
+
+    @Test
+    @DisplayName("Test turn limit stops a game without a winner")
+    void testTurnLimit() throws EmptyDeckException {
+        GameResult result = new GameEngine(1).playMachineGame(4);
+
+        assertEquals(1, result.getTurns());
+        assertFalse(result.isFinished());
+        assertNull(result.getWinnerName());
+    }
+
+    @Test
+    @DisplayName("Test engine rejects tables with fewer than 2 players")
+    void testRejectsSinglePlayer() {
+        assertThrows(IllegalArgumentException.class, () -> engine.playMachineGame(1));
+    }
+
+    @Test
+    @DisplayName("Test simulator aggregates every game of the batch")
+    void testSimulatorSummary() throws EmptyDeckException {
+        int[] callbacks = {0};
+        SimulationSummary summary = new Simulator(4).run(200, result -> callbacks[0]++);
+
+        assertEquals(200, summary.getGames());
+        assertEquals(200, callbacks[0]);
+        long wins = 0;
+        for (int seat = 0; seat < summary.getSeats(); seat++) {
+            wins += summary.getWins(seat);
+        }
+        assertEquals(200 - summary.getUnfinishedGames(), wins);
+        assertEquals(3 * wins, summary.getTotalEliminations());
+    }
+
+    @Test
+    @DisplayName("Test the same seed replays the same game and batch")
+    void testSeededGamesAreReproducible() throws EmptyDeckException {
+        GameResult first = engine.playMachineGame(4, GameRandom.create(99L));
+        GameResult second = engine.playMachineGame(4, GameRandom.create(99L));
+
+        assertEquals(first.getWinnerSeat(), second.getWinnerSeat());
+        assertEquals(first.getTurns(), second.getTurns());
+        assertArrayEquals(first.getEliminationOrder(), second.getEliminationOrder());
+
+        Simulator simulator = new Simulator(4, engine);
+        SimulationSummary batch = simulator.run(200, 7L, null);
+        SimulationSummary replay = simulator.run(200, 7L, null);
+        assertEquals(batch.getTotalTurns(), replay.getTotalTurns());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(batch.getWins(seat), replay.getWins(seat));
+        }
+    }
+
+    @Test
+    @DisplayName("Test seeded models deal the same cards")
+    void testSeededModelDeal() throws EmptyDeckException {
+        GameModel first = new GameModel(3, 1234L);
+        GameModel second = new GameModel(3, 1234L);
+        first.initializeGame();
+        second.initializeGame();
+
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(first.getPlayers().get(seat).getHand(), second.getPlayers().get(seat).getHand());
+        }
+        assertEquals(first.getTopCard(), second.getTopCard());
+    }
+}
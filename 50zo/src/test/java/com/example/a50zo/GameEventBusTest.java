@@ -0,0 +1,107 @@
+package com.example.a50zo;
+
+import com.example.a50zo.events.GameEvent;
+import com.example.a50zo.events.GameEventBus;
+import com.example.a50zo.events.GameEventPublisher;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.TurnOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameEventBus and GameEventPublisher.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class GameEventBusTest {
+
+    @Test
+    @DisplayName("Test capacity is rounded up to a power of two")
+    void testCapacity() {
+        assertEquals(8, new GameEventBus(5).getCapacity());
+        assertEquals(8, new GameEventBus(8).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+    }
+
+    @Test
+    @DisplayName("Test events are drained in order and a full bus rejects offers")
+    void testOfferAndDrain() {
+        GameEventBus bus = new GameEventBus(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bus.offer(GameEvent.deckReplenished(i, i)));
+        }
+        assertFalse(bus.offer(GameEvent.deckReplenished(4, 4)));
+        assertEquals(4, bus.size());
+
+        List<Integer> counts = new ArrayList<>();
+        assertEquals(3, bus.drain(e -> counts.add(e.getCardCount()), 3));
+        assertEquals(List.of(0, 1, 2), counts);
+
+        // Las secuencias dan la vuelta al arreglo
+        assertTrue(bus.offer(GameEvent.deckReplenished(4, 4)));
+        assertTrue(bus.offer(GameEvent.deckReplenished(5, 5)));
+        assertEquals(3, bus.drain(e -> counts.add(e.getCardCount()), 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), counts);
+        assertEquals(0, bus.size());
+    }
+
+    @Test
+    @DisplayName("Test a producer thread and a consumer thread exchange every event in order")
+    void testConcurrentExchange() throws InterruptedException {
+        GameEventBus bus = new GameEventBus(16);
+        int total = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                bus.publish(GameEvent.deckReplenished(i, i));
+            }
+        });
+        producer.start();
+
+        int[] expected = {0};
+        boolean[] inOrder = {true};
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (expected[0] < total && System.nanoTime() < deadline) {
+            bus.drain(e -> inOrder[0] &= e.getCardCount() == expected[0]++, 8);
+        }
+        producer.join(1000);
+
+        assertEquals(total, expected[0]);
+        assertTrue(inOrder[0]);
+    }
+
+    @Test
+    @DisplayName("Test publisher forwards model changes as events")
+    void testPublisher() throws EmptyDeckException {
+        GameModel game = new GameModel(List.of(new MachinePlayer("A"), new MachinePlayer("B")));
+        game.setLoggingEnabled(false);
+        GameEventBus bus = new GameEventBus();
+        game.addListener(new GameEventPublisher(bus));
+
+        game.initializeGame();
+        TurnOutcome outcome = game.takeTurn();
+        assertEquals(TurnOutcome.Type.PLAYED, outcome.getType());
+
+        List<GameEvent> events = new ArrayList<>();
+        bus.drain(events::add, 100);
+        assertEquals(12, events.size());
+        assertEquals(GameEvent.Type.GAME_STARTED, events.get(8).getType());
+
+        GameEvent played = events.get(9);
+        assertEquals(GameEvent.Type.CARD_PLAYED, played.getType());
+        Card card = outcome.getPlayedCard();
+        assertSame(card, played.getCard());
+        assertEquals(outcome.getTableSum(), played.getTableSum());
+        assertEquals(GameEvent.Type.CARD_DRAWN, events.get(10).getType());
+        assertEquals(GameEvent.Type.TURN_CHANGED, events.get(11).getType());
+        assertSame(game.getCurrentPlayer(), events.get(11).getPlayer());
+    }
+}
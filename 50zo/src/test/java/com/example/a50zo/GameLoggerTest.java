@@ -0,0 +1,122 @@
+package com.example.a50zo;
+
+import com.example.a50zo.utils.AsyncLogWriter;
+import com.example.a50zo.utils.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameLogger and its AsyncLogWriter.
+ * Each test logs into its own in-memory stream.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class GameLoggerTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private AsyncLogWriter writer;
+    private GameLogger logger;
+    private GameLogger.Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = GameLogger.getLevel();
+        writer = new AsyncLogWriter(new PrintStream(output, true), 16);
+        logger = new GameLogger("TEST", writer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown(1000);
+        GameLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("Test placeholders are replaced by the arguments")
+    void testFormatting() {
+        GameLogger.setLevel(GameLogger.Level.DEBUG);
+
+        logger.debug("Machine played: {} | {} -> {}", "5H", 20, 25);
+        logger.info("Done");
+        assertTrue(writer.flush(2000));
+
+        String text = output.toString();
+        assertTrue(text.contains("DEBUG [TEST] Machine played: 5H | 20 -> 25"), text);
+        assertTrue(text.contains("INFO [TEST] Done"), text);
+    }
+
+    @Test
+    @DisplayName("Test records below the level are never formatted")
+    void testLevelGating() {
+        GameLogger.setLevel(GameLogger.Level.INFO);
+        AtomicInteger formatted = new AtomicInteger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "arg";
+            }
+        };
+
+        assertFalse(logger.isDebugEnabled());
+        logger.debug("Value: {}", argument);
+        logger.debug(() -> "Value: " + argument);
+        logger.warn("Warning: {}", argument);
+        assertTrue(writer.flush(2000));
+
+        assertEquals(1, formatted.get());
+        assertFalse(output.toString().contains("DEBUG"));
+        assertTrue(output.toString().contains("WARN [TEST] Warning: arg"));
+    }
+
+    @Test
+    @DisplayName("Test the OFF level discards every record")
+    void testOff() {
+        GameLogger.setLevel(GameLogger.Level.OFF);
+
+        logger.error("Failure", new IllegalStateException());
+        assertTrue(writer.flush(2000));
+
+        assertFalse(logger.isEnabled(GameLogger.Level.ERROR));
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    @DisplayName("Test a full ring drops records instead of blocking")
+    void testDropsWhenFull() throws InterruptedException {
+        Object slowArgument = new Object() {
+            @Override
+            public String toString() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+        };
+        writer.write(GameLogger.Level.INFO, "TEST", "{}", slowArgument, null, null, null);
+        Thread.sleep(50);
+
+        int accepted = 0;
+        for (int i = 0; i < 40; i++) {
+            if (writer.write(GameLogger.Level.INFO, "TEST", "record {}", i, null, null, null)) {
+                accepted++;
+            }
+        }
+        assertTrue(writer.flush(2000));
+
+        assertEquals(40 - accepted, writer.getDroppedCount());
+        assertTrue(writer.getDroppedCount() > 0);
+        assertTrue(output.toString().contains("record 0"));
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -182,6 +185,8 @@ class GameModelTest {
                         break;
                     }
                 }
+                // Refill the hand like a normal turn so the loop keeps progressing
+                gameModel.drawCard();
             } catch (Exception e) {
                 break;
             }
@@ -266,4 +271,178 @@ class GameModelTest {
             assertNotEquals(initialTopCard, newTopCard);
         }
     }
+
+    @Test
+    @DisplayName("Test takeTurn plays, draws and advances without exceptions")
+    void testTakeTurnPlays() {
+        Player human = gameModel.getCurrentPlayer();
+        int sum = gameModel.getTableSum();
+        Card validCard = null;
+        for (Card card : human.getHand()) {
+            if (card.canBePlayed(sum)) {
+                validCard = card;
+                break;
+            }
+        }
+        assertNotNull(validCard);
+
+        TurnOutcome outcome = gameModel.takeTurn(validCard);
+
+        assertEquals(TurnOutcome.Type.PLAYED, outcome.getType());
+        assertSame(human, outcome.getPlayer());
+        assertEquals(sum + validCard.getBestValue(sum), outcome.getTableSum());
+        assertNotNull(outcome.getDrawnCard());
+        assertEquals(4, human.getHandSize());
+        assertNotSame(human, gameModel.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Test takeTurn rejects a card that is not in hand")
+    void testTakeTurnRejectsForeignCard() {
+        Player human = gameModel.getCurrentPlayer();
+        Card foreign = gameModel.getTopCard();
+        int sum = gameModel.getTableSum();
+
+        TurnOutcome outcome = gameModel.takeTurn(foreign);
+
+        assertEquals(TurnOutcome.Type.INVALID_PLAY, outcome.getType());
+        assertSame(human, gameModel.getCurrentPlayer());
+        assertEquals(sum, gameModel.getTableSum());
+    }
+
+    @Test
+    @DisplayName("Test takeTurn lets machine players choose their own card")
+    void testTakeTurnMachineChooses() {
+        gameModel.nextTurn();
+        Player machine = gameModel.getCurrentPlayer();
+        assertTrue(machine instanceof MachinePlayer);
+
+        TurnOutcome outcome = gameModel.takeTurn();
+
+        assertNotEquals(TurnOutcome.Type.INVALID_PLAY, outcome.getType());
+        assertSame(machine, outcome.getPlayer());
+    }
+
+    @Test
+    @DisplayName("Test takeTurn reports elimination and game over without throwing")
+    void testTakeTurnEliminates() throws EmptyDeckException {
+        GameModel game = new GameModel(List.of(new MachinePlayer("A"), new MachinePlayer("B")));
+        game.initializeGame();
+        TurnOutcome outcome = null;
+        for (int i = 0; i < 10_000 && !game.isGameOver(); i++) {
+            outcome = game.takeTurn();
+            assertNotEquals(TurnOutcome.Type.INVALID_PLAY, outcome.getType());
+        }
+
+        assertTrue(game.isGameOver());
+        assertEquals(TurnOutcome.Type.ELIMINATED, outcome.getType());
+        assertTrue(outcome.isGameOver());
+        assertTrue(outcome.getPlayer().isEliminated());
+        assertEquals(0, outcome.getPlayer().getHandSize());
+    }
+
+    @Test
+    @DisplayName("Test listeners receive each change as it happens")
+    void testListenerEvents() {
+        GameModel game = new GameModel(List.of(new MachinePlayer("A"), new MachinePlayer("B")));
+        game.setLoggingEnabled(false);
+        List<String> events = new ArrayList<>();
+        int[] lastDeckSize = {-1};
+        game.addListener(new GameModelListener() {
+            @Override
+            public void onGameStarted(Card topCard, int tableSum, int deckSize) {
+                events.add("start");
+                lastDeckSize[0] = deckSize;
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card, int tableSum) {
+                events.add("play");
+                assertSame(card, game.getTopCard());
+                assertEquals(tableSum, game.getTableSum());
+            }
+
+            @Override
+            public void onCardDrawn(Player player, Card card, int deckSize) {
+                events.add("draw");
+                assertTrue(player.getHandView().contains(card));
+                lastDeckSize[0] = deckSize;
+            }
+
+            @Override
+            public void onDeckReplenished(int cardsReturned, int deckSize) {
+                lastDeckSize[0] = deckSize;
+            }
+
+            @Override
+            public void onPlayerEliminated(Player player, int cardsReturned, int deckSize) {
+                events.add("eliminated");
+                assertTrue(player.isEliminated());
+                lastDeckSize[0] = deckSize;
+            }
+
+            @Override
+            public void onTurnChanged(Player currentPlayer) {
+                events.add("turn");
+                assertSame(currentPlayer, game.getCurrentPlayer());
+            }
+
+            @Override
+            public void onGameOver(Player winner) {
+                events.add("over");
+                assertSame(winner, game.getWinner());
+            }
+        });
+
+        assertDoesNotThrow(game::initializeGame);
+        assertEquals(9, events.size());
+        assertEquals("start", events.get(8));
+        assertEquals(8, events.stream().filter("draw"::equals).count());
+        for (int i = 0; i < 10_000 && !game.isGameOver(); i++) {
+            game.takeTurn();
+            assertEquals(game.getDeckSize(), lastDeckSize[0]);
+        }
+
+        assertEquals(List.of("start", "play", "draw", "turn"), events.subList(8, 12));
+        assertEquals(List.of("eliminated", "over"), events.subList(events.size() - 2, events.size()));
+        assertEquals(1, events.stream().filter("over"::equals).count());
+    }
+
+    @Test
+    @DisplayName("Test turn order on a large table skips eliminated seats")
+    void testLargeTableTurnOrder() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            players.add(new MachinePlayer("Machine " + i));
+        }
+        GameModel game = new GameModel(players);
+        game.setLoggingEnabled(false);
+
+        // Eliminar todos los asientos impares, incluido el siguiente al actual
+        for (int i = 1; i < 200; i += 2) {
+            players.get(i).eliminate();
+        }
+        assertEquals(100, game.getActivePlayerCount());
+        for (int i = 0; i < 200; i++) {
+            game.nextTurn();
+            assertFalse(game.getCurrentPlayer().isEliminated());
+            assertEquals(players.get((2 * (i + 1)) % 200), game.getCurrentPlayer());
+        }
+
+        // El jugador actual es eliminado y el turno sigue desde su asiento
+        players.get(0).eliminate();
+        players.get(2).eliminate();
+        game.nextTurn();
+        assertSame(players.get(4), game.getCurrentPlayer());
+        assertEquals(98, game.getActivePlayerCount());
+
+        for (int i = 4; i < 198; i += 2) {
+            players.get(i).eliminate();
+        }
+        assertFalse(game.isGameOver());
+        game.nextTurn();
+        assertTrue(game.isGameOver());
+        assertSame(players.get(198), game.getWinner());
+        assertSame(players.get(198), game.getCurrentPlayer());
+    }
 }
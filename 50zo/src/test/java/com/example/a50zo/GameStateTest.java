@@ -0,0 +1,187 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.GameState;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.TurnOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameState class.
+ * Tests snapshots, move application, undo and copies.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class GameStateTest {
+
+    private GameModel model;
+
+    @BeforeEach
+    void setUp() throws EmptyDeckException {
+        model = new GameModel(3, 2024L);
+        model.setLoggingEnabled(false);
+        model.initializeGame();
+    }
+
+    /**
+     * Summarizes a state in a list, to compare states field by field.
+     *
+     * @param state The state
+     * @return Its observable values
+     */
+    private static List<Long> describe(GameState state) {
+        List<Long> values = new ArrayList<>();
+        values.add((long) state.getCurrentPlayer());
+        values.add((long) state.getTableSum());
+        values.add(state.getAliveMask());
+        values.add(state.getTableMask());
+        values.add((long) state.getDeckSize());
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            values.add(state.getHand(player));
+        }
+        for (int i = 0; i < state.getDeckSize(); i++) {
+            values.add((long) state.getDeckCard(i));
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Test a snapshot mirrors the model")
+    void testSnapshot() {
+        GameState state = model.snapshot();
+
+        assertEquals(4, state.getPlayerCount());
+        assertEquals(model.getTableSum(), state.getTableSum());
+        assertEquals(model.getDeckSize(), state.getDeckSize());
+        assertEquals(model.getTopCard().mask(), state.getTableMask());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(model.getPlayers().get(seat).getHandMask(), state.getHand(seat));
+        }
+        assertEquals(0b1111L, state.getAliveMask());
+        assertFalse(state.isGameOver());
+    }
+
+    @Test
+    @DisplayName("Test applying the model's moves keeps the state equal to the model")
+    void testMirrorsModel() {
+        // Solo las máquinas eligen carta solas: usar una partida de máquinas
+        List<Player> seats = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            seats.add(new MachinePlayer("Machine " + i));
+        }
+        GameModel game = new GameModel(seats, new SplittableRandom(5));
+        game.setLoggingEnabled(false);
+        assertDoesNotThrow(game::initializeGame);
+        GameState state = game.snapshot();
+
+        for (int turn = 0; turn < 200 && !game.isGameOver(); turn++) {
+            int deckBefore = game.getDeckSize();
+            TurnOutcome outcome = game.takeTurn();
+            if (outcome.getType() == TurnOutcome.Type.ELIMINATED) {
+                state.apply(GameState.ELIMINATE);
+                // El modelo devuelve las cartas en el orden de la mano: dejar de comparar el mazo
+                break;
+            }
+            state.apply(outcome.getPlayedCard().id());
+            if (deckBefore == 0) {
+                break;
+            }
+            assertEquals(game.getTableSum(), state.getTableSum());
+            assertEquals(seats.indexOf(game.getCurrentPlayer()), state.getCurrentPlayer());
+            for (int seat = 0; seat < 4; seat++) {
+                assertEquals(seats.get(seat).getHandMask(), state.getHand(seat));
+            }
+        }
+        assertTrue(state.getDepth() > 0);
+    }
+
+    @Test
+    @DisplayName("Test undo restores every earlier state of a full playout")
+    void testUndoFullPlayout() {
+        GameState state = model.snapshot();
+        List<List<Long>> history = new ArrayList<>();
+        List<Integer> moves = new ArrayList<>();
+
+        while (!state.isGameOver() && moves.size() < 2000) {
+            history.add(describe(state));
+            long legal = state.legalMoves();
+            int move = legal == 0L ? GameState.ELIMINATE : 63 - Long.numberOfLeadingZeros(legal);
+            state.apply(move);
+            moves.add(move);
+        }
+        assertTrue(state.isGameOver());
+        assertTrue(state.getWinner() >= 0);
+
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            state.undo(moves.get(i));
+            assertEquals(history.get(i), describe(state));
+        }
+        assertEquals(0, state.getDepth());
+    }
+
+    @Test
+    @DisplayName("Test cards are conserved through plays, recycling and eliminations")
+    void testCardsConserved() {
+        GameState state = model.snapshot();
+        int moves = 0;
+
+        while (!state.isGameOver() && moves < 2000) {
+            long legal = state.legalMoves();
+            state.apply(legal == 0L ? GameState.ELIMINATE : Long.numberOfTrailingZeros(legal));
+            moves++;
+
+            long seen = state.getTableMask();
+            int count = Long.bitCount(seen);
+            for (int player = 0; player < state.getPlayerCount(); player++) {
+                assertEquals(0L, seen & state.getHand(player));
+                seen |= state.getHand(player);
+                count += Long.bitCount(state.getHand(player));
+            }
+            for (int i = 0; i < state.getDeckSize(); i++) {
+                seen |= 1L << state.getDeckCard(i);
+            }
+            assertEquals(Card.ALL_CARDS_MASK, seen);
+            assertEquals(Card.COUNT, count + state.getDeckSize());
+        }
+    }
+
+    @Test
+    @DisplayName("Test copies are independent and copyFrom restores a state")
+    void testCopy() {
+        GameState state = model.snapshot();
+        GameState copy = state.copy();
+        List<Long> original = describe(state);
+
+        long legal = copy.legalMoves();
+        copy.apply(legal == 0L ? GameState.ELIMINATE : Long.numberOfTrailingZeros(legal));
+        assertEquals(original, describe(state));
+        assertNotEquals(original, describe(copy));
+
+        copy.copyFrom(state);
+        assertEquals(original, describe(copy));
+    }
+
+    @Test
+    @DisplayName("Test undoing a move other than the last one is rejected")
+    void testUndoWrongMove() {
+        GameState state = model.snapshot();
+        long legal = state.legalMoves();
+        int move = legal == 0L ? GameState.ELIMINATE : Long.numberOfTrailingZeros(legal);
+        state.apply(move);
+
+        assertThrows(IllegalStateException.class, () -> state.undo(move == 0 ? 1 : 0));
+        assertEquals(1, state.getDepth());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.a50zo;
+
+import com.example.a50zo.utils.LruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LruCache.
+ * Values are strings weighed by their length.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class LruCacheTest {
+
+    private final LruCache<String, String> cache = new LruCache<>(10, String::length);
+
+    @Test
+    @DisplayName("Test hits and misses are counted and values loaded once")
+    void testHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("AAA", cache.get("a", key -> { loads.incrementAndGet(); return "AAA"; }));
+        assertEquals("AAA", cache.get("a", key -> { loads.incrementAndGet(); return "XXX"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(3, cache.getWeight());
+        assertEquals(3, cache.getLoadedWeight());
+    }
+
+    @Test
+    @DisplayName("Test least recently used values are evicted to respect the bound")
+    void testEviction() {
+        cache.put("a", "1111");
+        cache.put("b", "2222");
+        cache.getIfPresent("a");
+        cache.put("c", "3333");
+
+        assertNull(cache.getIfPresent("b"));
+        assertNotNull(cache.getIfPresent("a"));
+        assertNotNull(cache.getIfPresent("c"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(8, cache.getWeight());
+        assertEquals(12, cache.getLoadedWeight());
+    }
+
+    @Test
+    @DisplayName("Test a value heavier than the bound is still kept alone")
+    void testOversizedValue() {
+        cache.put("a", "1");
+        cache.put("big", "0123456789ABC");
+
+        assertEquals(1, cache.size());
+        assertNotNull(cache.getIfPresent("big"));
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    @DisplayName("Test null loads are not stored")
+    void testNullNotStored() {
+        assertNull(cache.get("missing", key -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test concurrent requests for a missing key share one load")
+    void testConcurrentLoadsShared() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> results.add(cache.get("k", key -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "V";
+            })));
+            threads.add(thread);
+            thread.start();
+        }
+        assertTrue(loaderStarted.await(2, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(2000);
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of("V", "V", "V", "V"), results);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.a50zo;
+
+import com.example.a50zo.ai.MctsMachinePlayer;
+import com.example.a50zo.ai.SearchReport;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.PendingMove;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.Suit;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.GameResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.a50zo.TestDeals.dealChoice;
+import static com.example.a50zo.TestDeals.dealWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MctsMachinePlayer class.
+ * Tests legal choices, search budgets, reports, reproducibility,
+ * and background searches with deadlines and cancellation.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class MctsMachinePlayerTest {
+
+    /**
+     * Creates a search player with a rollout limit on the common pool.
+     *
+     * @param name     The player's name
+     * @param rollouts Rollouts per decision
+     * @param seed     Search seed
+     * @return The player
+     */
+    private static MctsMachinePlayer mcts(String name, int rollouts, long seed) {
+        return new MctsMachinePlayer(name, rollouts, 0L, ForkJoinPool.commonPool(), 4, seed);
+    }
+
+    @Test
+    @DisplayName("Test the chosen card is a legal card from the hand")
+    void testChoosesLegalCard() throws EmptyDeckException {
+        MctsMachinePlayer player = mcts("Search", 400, 1L);
+        GameModel model = dealWith(player, 7L);
+
+        Card card = player.chooseCard(model.getTableSum());
+
+        assertNotNull(card);
+        assertNotEquals(0L, player.getPlayableMask(model.getTableSum()) & card.mask());
+        assertEquals(4, player.getHandSize());
+    }
+
+    @Test
+    @DisplayName("Test the report counts the rollouts of every tree")
+    void testReport() throws EmptyDeckException {
+        for (long seed = 1; seed < 50; seed++) {
+            MctsMachinePlayer player = mcts("Search", 401, seed);
+            GameModel model = dealWith(player, seed);
+            if (Long.bitCount(player.getPlayableMask(model.getTableSum())) < 2) {
+                continue;
+            }
+            player.chooseCard(model.getTableSum());
+
+            SearchReport report = player.getLastReport();
+            assertNotNull(report);
+            assertEquals(401, report.getIterations());
+            assertEquals(4, report.getWorkers());
+            assertTrue(report.getIterationsPerSecond() > 0);
+            assertTrue(report.getExpectedValue() >= 0.0 && report.getExpectedValue() <= 1.0);
+            return;
+        }
+        fail("No deal gave the search player two legal cards");
+    }
+
+    @Test
+    @DisplayName("Test a single legal card is played without searching")
+    void testSingleLegalCard() {
+        MctsMachinePlayer player = mcts("Search", 400, 1L);
+        player.addCardToHand(Card.of(Rank.TEN, Suit.HEARTS));
+        player.addCardToHand(Card.of(Rank.NINE, Suit.SPADES));
+
+        // Con 45 en la mesa el diez se pasa de 50: solo queda el nueve
+        assertEquals(Card.of(Rank.NINE, Suit.SPADES), player.chooseCard(45));
+        assertNull(player.getLastReport());
+    }
+
+    @Test
+    @DisplayName("Test the same seeds give the same choice with a rollout limit")
+    void testReproducible() throws EmptyDeckException {
+        MctsMachinePlayer first = mcts("Search", 300, 99L);
+        MctsMachinePlayer second = mcts("Search", 300, 99L);
+
+        Card firstChoice = first.chooseCard(dealWith(first, 3L).getTableSum());
+        Card secondChoice = second.chooseCard(dealWith(second, 3L).getTableSum());
+
+        assertEquals(firstChoice, secondChoice);
+    }
+
+    @Test
+    @DisplayName("Test a time budget bounds the search")
+    void testTimeBudget() throws EmptyDeckException {
+        MctsMachinePlayer player = new MctsMachinePlayer("Search", 0L, 50L, ForkJoinPool.commonPool(), 2, 5L);
+        GameModel model = dealChoice(player);
+
+        assertNotNull(player.chooseCard(model.getTableSum()));
+        SearchReport report = player.getLastReport();
+        assertTrue(report.getIterations() > 0);
+        assertTrue(report.getElapsedNanos() < 2_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("Test a background search runs until its deadline")
+    void testSearchUntilDeadline() throws EmptyDeckException {
+        MctsMachinePlayer player = new MctsMachinePlayer("Search", 0L, 60_000L, ForkJoinPool.commonPool(), 2, 3L);
+        GameModel model = dealChoice(player);
+
+        PendingMove move = player.startChoosing(model.getTableSum(), System.nanoTime() + 100_000_000L);
+        Card card = move.await();
+
+        assertTrue(move.isDone());
+        assertNotEquals(0L, player.getPlayableMask(model.getTableSum()) & card.mask());
+        assertSame(card, move.await());
+        long elapsed = player.getLastReport().getElapsedNanos();
+        assertTrue(elapsed >= 90_000_000L, "stopped early: " + elapsed);
+        assertTrue(elapsed < 10_000_000_000L, "ignored the deadline: " + elapsed);
+    }
+
+    @Test
+    @DisplayName("Test a cancelled search answers with the best card so far")
+    void testCancel() throws EmptyDeckException, InterruptedException {
+        MctsMachinePlayer player = new MctsMachinePlayer("Search", 0L, 60_000L, ForkJoinPool.commonPool(), 2, 4L);
+        GameModel model = dealChoice(player);
+
+        PendingMove move = player.startChoosing(model.getTableSum(), System.nanoTime() + 60_000_000_000L);
+        Thread.sleep(50);
+        move.cancel();
+        Card card = move.await();
+
+        assertNotNull(card);
+        assertNotEquals(0L, player.getPlayableMask(model.getTableSum()) & card.mask());
+        assertTrue(player.getLastReport().getElapsedNanos() < 30_000_000_000L);
+        assertTrue(player.getLastReport().getIterations() > 0);
+    }
+
+    @Test
+    @DisplayName("Test the greedy player answers a deadline straight away")
+    void testGreedyStartChoosing() throws EmptyDeckException {
+        MachinePlayer greedy = new MachinePlayer("Machine");
+        GameModel model = dealWith(greedy, 8L);
+
+        PendingMove move = greedy.startChoosing(model.getTableSum(), System.nanoTime() + 60_000_000_000L);
+
+        assertTrue(move.isDone());
+        assertEquals(greedy.chooseCard(model.getTableSum()), move.await());
+    }
+
+    @Test
+    @DisplayName("Test a game with search players finishes")
+    void testFullGame() throws EmptyDeckException {
+        List<Player> seats = new ArrayList<>();
+        seats.add(mcts("Search 1", 100, 1L));
+        seats.add(new MachinePlayer("Machine"));
+        seats.add(mcts("Search 2", 100, 2L));
+
+        GameResult result = new GameEngine().play(new GameModel(seats, new SplittableRandom(11)));
+
+        assertTrue(result.isFinished());
+    }
+
+    @Test
+    @DisplayName("Test invalid budgets are rejected")
+    void testInvalidBudgets() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> new MctsMachinePlayer("Search", 0L, 0L, pool, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MctsMachinePlayer("Search", -1L, 0L, pool, 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MctsMachinePlayer("Search", 10L, 0L, pool, 0, 1L));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.simulation.GameEngine;
+import com.example.a50zo.simulation.MonteCarloRunner;
+import com.example.a50zo.simulation.SimulationSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel MonteCarloRunner.
+ * Tests result aggregation, seed reproducibility across thread counts
+ * and the scaling run of the command line entry point.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class MonteCarloRunnerTest {
+
+    private ForkJoinPool singleThread;
+    private ForkJoinPool fourThreads;
+
+    @BeforeEach
+    void setUp() {
+        singleThread = new ForkJoinPool(1);
+        fourThreads = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        singleThread.shutdown();
+        fourThreads.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test every game of the batch is counted")
+    void testAllGamesCounted() throws EmptyDeckException {
+        SimulationSummary summary = new MonteCarloRunner(3, new GameEngine(), fourThreads, 16)
+                .run(500, 7L);
+
+        long wins = 0;
+        for (int seat = 0; seat < summary.getSeats(); seat++) {
+            wins += summary.getWins(seat);
+        }
+        assertEquals(500, summary.getGames());
+        assertEquals(500, wins + summary.getUnfinishedGames());
+        assertEquals(2 * wins, summary.getTotalEliminations());
+    }
+
+    @Test
+    @DisplayName("Test the same seed gives the same results regardless of thread count")
+    void testSeedReproducibleAcrossThreads() throws EmptyDeckException {
+        SimulationSummary sequential = new MonteCarloRunner(4, new GameEngine(), singleThread, 32)
+                .run(1_000, 12345L);
+        SimulationSummary parallel = new MonteCarloRunner(4, new GameEngine(), fourThreads, 32)
+                .run(1_000, 12345L);
+
+        assertEquals(sequential.getTotalTurns(), parallel.getTotalTurns());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(sequential.getWins(seat), parallel.getWins(seat));
+        }
+    }
+
+    @Test
+    @DisplayName("Test different seeds give different games")
+    void testDifferentSeeds() throws EmptyDeckException {
+        MonteCarloRunner runner = new MonteCarloRunner(4, new GameEngine(), fourThreads, 32);
+
+        assertNotEquals(runner.run(1_000, 1L).getTotalTurns(), runner.run(1_000, 2L).getTotalTurns());
+    }
+
+    @Test
+    @DisplayName("Test runner rejects invalid configuration")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloRunner(1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloRunner(4, new GameEngine(), fourThreads, 0));
+    }
+
+    @Test
+    @DisplayName("Test the scaling run ends with an odd highest thread count")
+    void testMainOddThreads() {
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30),
+                    () -> MonteCarloRunner.main(new String[] {"20", "2", "3"}));
+        } finally {
+            System.setOut(out);
+        }
+
+        // Una línea por tamaño: 1, 2 y por último 3
+        String[] lines = captured.toString().trim().split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("threads= 1"));
+        assertTrue(lines[1].startsWith("threads= 2"));
+        assertTrue(lines[2].startsWith("threads= 3"));
+    }
+}
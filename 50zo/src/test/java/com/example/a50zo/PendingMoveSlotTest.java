@@ -0,0 +1,111 @@
+package com.example.a50zo;
+
+import com.example.a50zo.ai.MctsMachinePlayer;
+import com.example.a50zo.controller.PendingMoveSlot;
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.PendingMove;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.a50zo.TestDeals.dealChoice;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PendingMoveSlot that holds the machine search of a turn.
+ * Tests that a held search is cancelled whenever it is dropped.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class PendingMoveSlotTest {
+
+    /**
+     * Move that counts how often it was cancelled.
+     */
+    private static final class CountingMove implements PendingMove {
+        private int cancels;
+
+        @Override
+        public Card await() {
+            return null;
+        }
+
+        @Override
+        public void cancel() {
+            cancels++;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancels > 0;
+        }
+    }
+
+    @Test
+    @DisplayName("Test clearing the slot cancels the held search")
+    void testClearCancels() {
+        PendingMoveSlot slot = new PendingMoveSlot();
+        CountingMove move = new CountingMove();
+
+        slot.set(move);
+        slot.clear();
+
+        assertEquals(1, move.cancels);
+        assertTrue(slot.isEmpty());
+        assertNull(slot.take());
+    }
+
+    @Test
+    @DisplayName("Test replacing the held search cancels the old one")
+    void testReplaceCancels() {
+        PendingMoveSlot slot = new PendingMoveSlot();
+        CountingMove first = new CountingMove();
+        CountingMove second = new CountingMove();
+
+        slot.set(first);
+        slot.set(second);
+
+        assertEquals(1, first.cancels);
+        assertEquals(0, second.cancels);
+        assertSame(second, slot.take());
+    }
+
+    @Test
+    @DisplayName("Test taking and cancelling keep the search for its card")
+    void testTakeAndCancel() {
+        PendingMoveSlot slot = new PendingMoveSlot();
+        CountingMove move = new CountingMove();
+
+        slot.set(move);
+        slot.cancel();
+        assertEquals(1, move.cancels);
+        assertFalse(slot.isEmpty());
+
+        assertSame(move, slot.take());
+        assertEquals(1, move.cancels);
+        assertTrue(slot.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test a search started after the game was cancelled stops when the next game starts")
+    void testLateSearchStopped() throws EmptyDeckException {
+        MctsMachinePlayer player = new MctsMachinePlayer("Search", 0L, 60_000L, ForkJoinPool.commonPool(), 2, 6L);
+        GameModel model = dealChoice(player);
+        PendingMoveSlot slot = new PendingMoveSlot();
+
+        // La partida vieja ya se canceló; su motor aún inicia una búsqueda de un minuto
+        slot.cancel();
+        PendingMove late = player.startChoosing(model.getTableSum(), System.nanoTime() + 60_000_000_000L);
+        slot.set(late);
+        slot.clear();
+
+        Card card = assertTimeoutPreemptively(Duration.ofSeconds(30), late::await);
+        assertTrue(late.isDone());
+        assertNotEquals(0L, player.getPlayableMask(model.getTableSum()) & card.mask());
+    }
+}
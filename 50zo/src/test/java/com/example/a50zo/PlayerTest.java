@@ -0,0 +1,124 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.InvalidCardPlayException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.Suit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Player hand bitmask and the machine player strategy.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class PlayerTest {
+
+    private MachinePlayer player;
+
+    @BeforeEach
+    void setUp() {
+        player = new MachinePlayer("Machine 1");
+    }
+
+    @Test
+    @DisplayName("Test hand mask follows cards added and removed")
+    void testHandMask() {
+        Card ten = Card.of(Rank.TEN, Suit.HEARTS);
+        Card king = Card.of(Rank.KING, Suit.SPADES);
+
+        player.addCardToHand(ten);
+        player.addCardToHand(king);
+        assertEquals(ten.mask() | king.mask(), player.getHandMask());
+
+        player.removeCardFromHand(ten);
+        assertEquals(king.mask(), player.getHandMask());
+
+        player.removeAllCards();
+        assertEquals(0L, player.getHandMask());
+    }
+
+    @Test
+    @DisplayName("Test duplicate cards keep their bit until the last copy leaves")
+    void testHandMaskWithDuplicates() {
+        Card five = Card.of(Rank.FIVE, Suit.CLUBS);
+        player.addCardToHand(five);
+        player.addCardToHand(new Card(Rank.FIVE, Suit.CLUBS));
+
+        player.removeCardFromHand(five);
+        assertEquals(five.mask(), player.getHandMask());
+
+        player.removeCardFromHand(five);
+        assertEquals(0L, player.getHandMask());
+    }
+
+    @Test
+    @DisplayName("Test playable masks agree with canBePlayed for every card and sum")
+    void testPlayableMaskMatchesCanBePlayed() {
+        for (int sum = -40; sum <= 70; sum++) {
+            long mask = RuleSet.standard().playableMask(sum);
+            for (int id = 0; id < Card.COUNT; id++) {
+                assertEquals(Card.of(id).canBePlayed(sum), (mask & (1L << id)) != 0,
+                        Card.of(id) + " at sum " + sum);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test valid move detection uses the hand mask")
+    void testHasValidMove() {
+        player.addCardToHand(Card.of(Rank.TEN, Suit.HEARTS));
+        player.addCardToHand(Card.of(Rank.EIGHT, Suit.HEARTS));
+
+        assertTrue(player.hasValidMove(40));
+        assertTrue(player.hasValidMove(42));
+        assertFalse(player.hasValidMove(43));
+
+        player.addCardToHand(Card.of(Rank.JACK, Suit.CLUBS));
+        assertTrue(player.hasValidMove(50));
+    }
+
+    @Test
+    @DisplayName("Test machine player picks the card closest to 50 and removes it")
+    void testSelectCard() throws InvalidCardPlayException {
+        player.addCardToHand(Card.of(Rank.TWO, Suit.HEARTS));
+        player.addCardToHand(Card.of(Rank.SEVEN, Suit.DIAMONDS));
+        player.addCardToHand(Card.of(Rank.TEN, Suit.CLUBS));
+        player.addCardToHand(Card.of(Rank.KING, Suit.SPADES));
+
+        Card selected = player.selectCard(42);
+
+        assertEquals(Card.of(Rank.SEVEN, Suit.DIAMONDS), selected);
+        assertEquals(3, player.getHandSize());
+        assertFalse(player.getHand().contains(selected));
+    }
+
+    @Test
+    @DisplayName("Test machine player without valid moves throws")
+    void testSelectCardWithoutMoves() {
+        player.addCardToHand(Card.of(Rank.TEN, Suit.CLUBS));
+
+        assertThrows(InvalidCardPlayException.class, () -> player.selectCard(45));
+    }
+
+    @Test
+    @DisplayName("Test hand view is read-only and follows the hand")
+    void testHandView() {
+        List<Card> view = player.getHandView();
+        Card card = Card.of(Rank.FIVE, Suit.SPADES);
+        player.addCardToHand(card);
+
+        assertEquals(List.of(card), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(card));
+        player.removeCardFromHand(card);
+        assertTrue(view.isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.Suit;
+import com.example.a50zo.model.TurnOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RuleSet class.
+ * Tests the compiled tables and games played under variant rules.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class RuleSetTest {
+
+    @Test
+    @DisplayName("Test standard rules follow the Ace rule for every sum")
+    void testStandardMatchesCards() {
+        RuleSet rules = RuleSet.standard();
+
+        for (int sum = -20; sum <= 70; sum++) {
+            long mask = rules.playableMask(sum);
+            for (int id = 0; id < Card.COUNT; id++) {
+                Card card = Card.of(id);
+                Rank rank = card.getRank();
+                // El As vale 10 mientras quepa en 50, si no vale 1
+                int expected = rank.hasMultipleValues() && sum + rank.getSecondaryValue() <= 50
+                        ? rank.getSecondaryValue() : rank.getPrimaryValue();
+                assertEquals(expected, rules.getBestValue(card, sum), card + " at sum " + sum);
+                assertEquals(sum + expected <= 50, rules.canBePlayed(card, sum), card + " at sum " + sum);
+                assertEquals(sum + expected <= 50, (mask & card.mask()) != 0L, card + " at sum " + sum);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test variant target and Ace options")
+    void testVariantValues() {
+        RuleSet rules = RuleSet.builder()
+                .targetSum(100)
+                .aceValues(1, 1)
+                .rankValues(Rank.KING, -10, 20)
+                .build();
+        Card ace = Card.of(Rank.ACE, Suit.HEARTS);
+        Card king = Card.of(Rank.KING, Suit.SPADES);
+        Card ten = Card.of(Rank.TEN, Suit.CLUBS);
+
+        assertEquals(1, rules.getBestValue(ace, 0));
+        assertEquals(20, rules.getBestValue(king, 80));
+        assertEquals(-10, rules.getBestValue(king, 81));
+        assertTrue(rules.canBePlayed(ten, 90));
+        assertFalse(rules.canBePlayed(ten, 91));
+        assertEquals(100, rules.getTargetSum());
+    }
+
+    @Test
+    @DisplayName("Test large tables get a shoe with several decks")
+    void testStandardForTable() {
+        assertSame(RuleSet.standard(), RuleSet.standardFor(4));
+        assertSame(RuleSet.standard(), RuleSet.standardFor(6));
+        assertEquals(2, RuleSet.standardFor(8).getDeckCount());
+        assertEquals(16, RuleSet.standardFor(100).getDeckCount());
+
+        GameModel game = new GameModel(12);
+        assertEquals(3 * Card.COUNT, game.getDeckSize());
+    }
+
+    @Test
+    @DisplayName("Test invalid rules are rejected")
+    void testInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.builder().targetSum(0));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.builder().handSize(0));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.builder().deckCount(0));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.builder().rankValues(Rank.ACE, 10, 1));
+    }
+
+    @Test
+    @DisplayName("Test a game deals the hand size from a multi-deck shoe and respects the target")
+    void testVariantGame() throws EmptyDeckException {
+        RuleSet rules = RuleSet.builder().targetSum(80).handSize(6).deckCount(2).build();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            players.add(new MachinePlayer("Machine " + i));
+        }
+        GameModel game = new GameModel(players, new Random(7), rules);
+        game.setLoggingEnabled(false);
+        game.initializeGame();
+
+        assertSame(rules, game.getRules());
+        assertEquals(6, players.get(0).getHandSize());
+        assertEquals(2 * Card.COUNT - 8 * 6 - 1, game.getDeckSize());
+
+        for (int turn = 0; turn < 10_000 && !game.isGameOver(); turn++) {
+            TurnOutcome outcome = game.takeTurn();
+            assertNotEquals(TurnOutcome.Type.INVALID_PLAY, outcome.getType());
+            assertTrue(game.getTableSum() <= 80);
+        }
+        assertTrue(game.isGameOver());
+    }
+}
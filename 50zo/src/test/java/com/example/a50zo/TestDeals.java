@@ -0,0 +1,111 @@
+package com.example.a50zo;
+
+import com.example.a50zo.exceptions.EmptyDeckException;
+import com.example.a50zo.model.GameModel;
+import com.example.a50zo.model.MachinePlayer;
+import com.example.a50zo.model.Player;
+import com.example.a50zo.model.RuleSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deals reproducible games for the machine player tests.
+ * The player under test takes the first seat, so it moves first, and greedy
+ * machine players fill the other seats.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+final class TestDeals {
+    /** Number of seats used when a test does not choose. */
+    static final int DEFAULT_PLAYERS = 4;
+
+    private static final long MAX_SEED = 50;
+
+    /**
+     * Private constructor: static helpers only.
+     */
+    private TestDeals() {
+    }
+
+    /**
+     * Deals a four-player game with a player in the first seat.
+     *
+     * @param first The player under test
+     * @param seed  Seed of the deck
+     * @return The dealt game, with the player to move
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    static GameModel dealWith(Player first, long seed) throws EmptyDeckException {
+        return dealWith(first, DEFAULT_PLAYERS, seed);
+    }
+
+    /**
+     * Deals a game with a player in the first seat.
+     * The player's hand is emptied first, so it can be dealt again.
+     *
+     * @param first   The player under test
+     * @param players Number of seats, at least 2
+     * @param seed    Seed of the deck
+     * @return The dealt game, with the player to move
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    static GameModel dealWith(Player first, int players, long seed) throws EmptyDeckException {
+        return dealWith(first, players, seed, RuleSet.standardFor(players));
+    }
+
+    /**
+     * Deals a game of a variant of the rules with a player in the first seat.
+     * The player's hand is emptied first, so it can be dealt again.
+     *
+     * @param first   The player under test
+     * @param players Number of seats, at least 2
+     * @param seed    Seed of the deck
+     * @param rules   The rules of the game
+     * @return The dealt game, with the player to move
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    static GameModel dealWith(Player first, int players, long seed, RuleSet rules) throws EmptyDeckException {
+        first.removeAllCards();
+        List<Player> seats = new ArrayList<>();
+        seats.add(first);
+        for (int i = 1; i < players; i++) {
+            seats.add(new MachinePlayer("Machine " + i));
+        }
+        GameModel model = new GameModel(seats, new SplittableRandom(seed), rules);
+        model.setLoggingEnabled(false);
+        model.initializeGame();
+        return model;
+    }
+
+    /**
+     * Deals four-player games until the player in the first seat has at least two legal cards.
+     *
+     * @param first The player under test
+     * @return A game where the player must really choose
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    static GameModel dealChoice(Player first) throws EmptyDeckException {
+        return dealChoice(first, DEFAULT_PLAYERS);
+    }
+
+    /**
+     * Deals games until the player in the first seat has at least two legal cards.
+     *
+     * @param first   The player under test
+     * @param players Number of seats, at least 2
+     * @return A game where the player must really choose
+     * @throws EmptyDeckException never, a fresh deck covers the deal
+     */
+    static GameModel dealChoice(Player first, int players) throws EmptyDeckException {
+        for (long seed = 1; seed < MAX_SEED; seed++) {
+            GameModel model = dealWith(first, players, seed);
+            if (Long.bitCount(first.getPlayableMask(model.getTableSum())) >= 2) {
+                return model;
+            }
+        }
+        throw new AssertionError("No deal gave " + first.getName() + " two legal cards");
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.a50zo;
+
+import com.example.a50zo.ai.TranspositionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TranspositionTable class.
+ * Tests lookups, depth and replacement rules, statistics and concurrent use.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Test a stored value is found at its depth and below")
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(8);
+        table.store(0x1234_5678_9ABC_DEF0L, 3, 0.25);
+
+        assertEquals(0.25, table.probe(0x1234_5678_9ABC_DEF0L, 3), 1e-6);
+        assertEquals(0.25, table.probe(0x1234_5678_9ABC_DEF0L, 1), 1e-6);
+        assertTrue(Double.isNaN(table.probe(0x1234_5678_9ABC_DEF0L, 4)));
+        assertTrue(Double.isNaN(table.probe(0x0FED_CBA9_8765_4321L, 1)));
+        assertEquals(4, table.getProbes());
+        assertEquals(2, table.getHits());
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test a shallower result does not replace a deeper one of the same search")
+    void testDeeperKept() {
+        TranspositionTable table = new TranspositionTable(8);
+        table.store(42L, 5, 0.75);
+        table.store(42L, 2, 0.10);
+        assertEquals(0.75, table.probe(42L, 5), 1e-6);
+
+        table.newSearch();
+        table.store(42L, 2, 0.10);
+        assertEquals(0.10, table.probe(42L, 2), 1e-6);
+        assertTrue(Double.isNaN(table.probe(42L, 5)));
+    }
+
+    @Test
+    @DisplayName("Test the table keeps its size and replaces entries when full")
+    void testBoundedMemory() {
+        TranspositionTable table = new TranspositionTable(4);
+        long memory = table.getMemoryBytes();
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            table.store(random.nextLong(), 1, 0.5);
+        }
+
+        assertEquals(16, table.getCapacity());
+        assertEquals(16 * 16, memory);
+        assertEquals(memory, table.getMemoryBytes());
+        assertEquals(10_000, table.getStores());
+        assertTrue(table.getReplacements() >= 10_000 - 16);
+    }
+
+    @Test
+    @DisplayName("Test entries of older searches are replaced before deeper current ones")
+    void testAging() {
+        // Dos entradas: un solo cubo, así que todas las claves compiten
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(1L, 9, 0.9);
+        table.newSearch();
+        table.store(2L, 1, 0.2);
+        table.store(3L, 1, 0.3);
+
+        assertTrue(Double.isNaN(table.probe(1L, 1)));
+        assertEquals(0.3, table.probe(3L, 1), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Test concurrent readers never see a value stored under another key")
+    void testConcurrentUse() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(6);
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    // El valor se deduce de la clave: una entrada rota daría otro valor
+                    long key = random.nextInt(512) * 0x9E37_79B9_7F4A_7C15L;
+                    double expected = (key >>> 40) / (double) (1L << 24);
+                    double found = table.probe(key, 1);
+                    if (!Double.isNaN(found) && Math.abs(found - expected) > 1e-6) {
+                        wrong.incrementAndGet();
+                    }
+                    table.store(key, 1 + random.nextInt(4), expected);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, wrong.get());
+        assertTrue(table.getHits() > 0);
+    }
+
+    @Test
+    @DisplayName("Test clear empties the table and its statistics")
+    void testClear() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(7L, 2, 0.5);
+        table.probe(7L, 2);
+        table.clear();
+
+        assertEquals(0, table.getProbes());
+        assertEquals(0, table.getStores());
+        assertTrue(Double.isNaN(table.probe(7L, 1)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.a50zo;
+
+import com.example.a50zo.controller.TurnScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TurnScheduler.
+ * Actions run directly on the scheduler thread instead of the FX thread.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class TurnSchedulerTest {
+
+    private TurnScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TurnScheduler(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test actions run in delay order")
+    void testActionsRunInOrder() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        scheduler.schedule(60, () -> { order.add(3); done.countDown(); });
+        scheduler.schedule(0, () -> { order.add(1); done.countDown(); });
+        scheduler.schedule(30, () -> { order.add(2); done.countDown(); });
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), order);
+        assertEquals(0, scheduler.getPendingTaskCount());
+        assertEquals(3, scheduler.getCompletedTaskCount());
+    }
+
+    @Test
+    @DisplayName("Test pending actions are counted and cancelled")
+    void testCancelAll() throws InterruptedException {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        scheduler.schedule(10_000, () -> ran.add("late"));
+        scheduler.schedule(10_000, () -> ran.add("later"));
+        assertEquals(2, scheduler.getPendingTaskCount());
+
+        scheduler.cancelAll();
+
+        assertEquals(0, scheduler.getPendingTaskCount());
+        assertEquals(2, scheduler.getCancelledTaskCount());
+
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.schedule(0, () -> { ran.add("after"); done.countDown(); });
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("after"), ran);
+    }
+
+    @Test
+    @DisplayName("Test actions scheduled after shutdown are ignored")
+    void testScheduleAfterShutdown() {
+        scheduler.shutdown();
+        scheduler.schedule(0, () -> fail("should not run"));
+
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    @DisplayName("Test a running action cannot continue into the next generation")
+    void testContinuationOfCancelledAction() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        List<String> ran = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(0, () -> {
+            running.countDown();
+            try {
+                cancelled.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler.schedule(0, () -> ran.add("stale continuation"));
+            scheduler.schedule(50, finished::countDown);
+        });
+        assertTrue(running.await(2, TimeUnit.SECONDS));
+        scheduler.cancelAll();
+        cancelled.countDown();
+
+        CountDownLatch fresh = new CountDownLatch(1);
+        scheduler.schedule(100, () -> { ran.add("new game"); fresh.countDown(); });
+        assertTrue(fresh.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("new game"), ran);
+        assertEquals(1, finished.getCount());
+    }
+}
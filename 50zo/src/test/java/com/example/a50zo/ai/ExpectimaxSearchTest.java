@@ -0,0 +1,79 @@
+package com.example.a50zo.ai;
+
+import com.example.a50zo.model.Card;
+import com.example.a50zo.model.Rank;
+import com.example.a50zo.model.RuleSet;
+import com.example.a50zo.model.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the package-private ExpectimaxSearch class.
+ * Tests positions that only differ in the top card of the table, which
+ * matters once the table goes back into the deck.
+ *
+ * @author Cincuentazo Team
+ * @version 1.0
+ */
+class ExpectimaxSearchTest {
+    private static final int PLAYERS = 3;
+    private static final long ALL_ALIVE = (1L << PLAYERS) - 1;
+    private static final int SUM = 40;
+    private static final int DEPTH = 4;
+    /** The table keeps values as floats, so cached results are a little rounded. */
+    private static final double FLOAT_ERROR = 1e-6;
+
+    private static final Card KING = Card.of(Rank.KING, Suit.SPADES);
+    private static final Card FIVE = Card.of(Rank.FIVE, Suit.SPADES);
+    private static final long HAND = mask(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.THREE, Suit.CLUBS),
+            Card.of(Rank.FOUR, Suit.CLUBS));
+    private static final long UNSEEN = mask(Card.of(Rank.SIX, Suit.DIAMONDS), Card.of(Rank.SEVEN, Suit.DIAMONDS),
+            Card.of(Rank.EIGHT, Suit.DIAMONDS), Card.of(Rank.TEN, Suit.DIAMONDS), Card.of(Rank.QUEEN, Suit.DIAMONDS));
+    private static final long SEEN = Card.ALL_CARDS_MASK & ~HAND & ~UNSEEN & ~mask(KING, FIVE);
+
+    /**
+     * Builds a card bitmask.
+     *
+     * @param cards The cards
+     * @return Bitmask of their ids
+     */
+    private static long mask(Card... cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= card.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Searches a position with 42 cards on the table, so the table goes back
+     * into the deck two turns after the searcher plays.
+     *
+     * @param table   Cache of searched positions
+     * @param holding The card held besides the common hand; the other one is unseen
+     * @return The expected value for the searcher
+     */
+    private static double searchHolding(TranspositionTable table, Card holding) {
+        ExpectimaxSearch search = new ExpectimaxSearch(RuleSet.standard(), table, 0);
+        int top = Long.numberOfTrailingZeros(SEEN);
+        return search.search(HAND | holding.mask(), SUM, SEEN, top, ALL_ALIVE, PLAYERS, DEPTH);
+    }
+
+    @Test
+    @DisplayName("Test transposed plays with different top cards are not mixed up in a shared table")
+    void testTopCardInKey() {
+        // Rey y luego cinco deja el cinco arriba; cinco y luego rey deja el rey: misma mano, suma y mesa
+        double kingFirst = searchHolding(new TranspositionTable(16), KING);
+        double fiveFirst = searchHolding(new TranspositionTable(16), FIVE);
+
+        TranspositionTable shared = new TranspositionTable(16);
+        assertEquals(kingFirst, searchHolding(shared, KING), FLOAT_ERROR);
+        assertEquals(fiveFirst, searchHolding(shared, FIVE), FLOAT_ERROR);
+
+        TranspositionTable reversed = new TranspositionTable(16);
+        assertEquals(fiveFirst, searchHolding(reversed, FIVE), FLOAT_ERROR);
+        assertEquals(kingFirst, searchHolding(reversed, KING), FLOAT_ERROR);
+    }
+}